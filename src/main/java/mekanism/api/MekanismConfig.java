@@ -13,6 +13,7 @@ public class MekanismConfig
 		public static boolean updateNotifications = true;
 		public static boolean controlCircuitOreDict = true;
 		public static boolean logPackets = false;
+		public static int frequencyAuditInterval = 100;
 		public static boolean dynamicTankEasterEgg = false;
 		public static boolean voiceServerEnabled = true;
 		public static boolean cardboardSpawners = true;
@@ -59,6 +60,8 @@ public class MekanismConfig
 		public static int maxPumpRange;
 		public static boolean pumpWaterSources;
 		public static int maxPlenisherNodes;
+		public static int maxTransporterPathsPerTick = 32;
+		public static int guiSyncInterval = 1;
 		public static double evaporationHeatDissipation = 0.02;
 		public static double evaporationTempMultiplier = 0.1;
 		public static double evaporationSolarMultiplier = 0.2;
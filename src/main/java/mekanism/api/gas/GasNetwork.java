@@ -1,13 +1,13 @@
 package mekanism.api.gas;
 
 import java.util.Collection;
-import java.util.Collections;
 import java.util.EnumSet;
 import java.util.HashSet;
-import java.util.List;
+import java.util.Map.Entry;
 import java.util.Set;
 
 import mekanism.api.Coord4D;
+import mekanism.api.transmitters.DemandDistributor;
 import mekanism.api.transmitters.DynamicNetwork;
 import mekanism.api.transmitters.IGridTransmitter;
 import mekanism.api.util.CapabilityUtils;
@@ -20,8 +20,6 @@ import net.minecraftforge.fml.common.eventhandler.Event;
 
 import org.apache.commons.lang3.tuple.Pair;
 
-import com.google.common.collect.Lists;
-
 /**
  * A DynamicNetwork extension created specifically for the transfer of Gasses. By default this is server-only, but if ticked on
  * the client side and if it's posted events are handled properly, it has the capability to visually display gasses network-wide.
@@ -44,6 +42,13 @@ public class GasNetwork extends DynamicNetwork<IGasHandler, GasNetwork>
 
 	public int prevTransferAmount = 0;
 
+	private IGasHandler[] emitHandlers = new IGasHandler[0];
+	private EnumFacing[] emitSides = new EnumFacing[0];
+	/** Reused for simulated transfers only, as acceptors don't keep those. */
+	private GasStack emitStack;
+
+	private DemandDistributor distributor = new DemandDistributor();
+
 	public GasNetwork() {}
 
 	public GasNetwork(Collection<GasNetwork> networks)
@@ -140,50 +145,87 @@ public class GasNetwork extends DynamicNetwork<IGasHandler, GasNetwork>
 		return getCapacity()-(buffer != null ? buffer.amount : 0);
 	}
 
+	/**
+	 * Asks every acceptor how much of the stack it can take with a simulated receive, then splits the stack between them
+	 * by demand so the whole amount can leave in one tick. A single GasStack is reused for the simulated receives, but each
+	 * real transfer gets its own copy, as acceptors may keep the stack they are given.
+	 */
 	public int tickEmit(GasStack stack)
 	{
-		List<Pair<Coord4D, IGasHandler>> availableAcceptors = Lists.newArrayList();
+		if(FMLCommonHandler.instance().getEffectiveSide().isClient())
+		{
+			return 0;
+		}
+
+		int size = acceptorDirections.size();
 
-		availableAcceptors.addAll(getAcceptors(stack.getGas()));
+		if(emitHandlers.length < size)
+		{
+			emitHandlers = new IGasHandler[size];
+			emitSides = new EnumFacing[size];
+		}
 
-		Collections.shuffle(availableAcceptors);
+		distributor.ensureCapacity(size);
+
+		if(emitStack == null || emitStack.getGas() != stack.getGas())
+		{
+			emitStack = new GasStack(stack.getGas(), 0);
+		}
 
-		int toSend = stack.amount;
-		int prevSending = toSend;
+		int count = 0;
 
-		if(!availableAcceptors.isEmpty())
+		for(Entry<Coord4D, EnumSet<EnumFacing>> entry : acceptorDirections.entrySet())
 		{
-			int divider = availableAcceptors.size();
-			int remaining = toSend % divider;
-			int sending = (toSend-remaining)/divider;
+			EnumSet<EnumFacing> sides = entry.getValue();
 
-			for(Pair<Coord4D, IGasHandler> pair : availableAcceptors)
+			if(sides == null || sides.isEmpty())
 			{
-				IGasHandler acceptor = pair.getRight();
-				int currentSending = sending;
-				EnumSet<EnumFacing> sides = acceptorDirections.get(pair.getLeft());
+				continue;
+			}
 
-				if(remaining > 0)
+			TileEntity tile = entry.getKey().getTileEntity(getWorld());
+
+			for(EnumFacing side : sides)
+			{
+				if(!CapabilityUtils.hasCapability(tile, Capabilities.GAS_HANDLER_CAPABILITY, side))
 				{
-					currentSending++;
-					remaining--;
+					continue;
 				}
 
-				for(EnumFacing side : sides)
-				{
-					int prev = toSend;
+				IGasHandler acceptor = CapabilityUtils.getCapability(tile, Capabilities.GAS_HANDLER_CAPABILITY, side);
 
-					toSend -= acceptor.receiveGas(side, new GasStack(stack.getGas(), currentSending), true);
+				if(acceptor != null && acceptor.canReceiveGas(side, stack.getGas()))
+				{
+					emitStack.amount = stack.amount;
+					int demand = acceptor.receiveGas(side, emitStack, false);
 
-					if(toSend < prev)
+					if(demand > 0)
 					{
+						emitHandlers[count] = acceptor;
+						emitSides[count] = side;
+						distributor.demands[count] = demand;
+						count++;
+
 						break;
 					}
 				}
 			}
 		}
 
-		int sent = prevSending-toSend;
+		distributor.allocate(count, stack.amount);
+
+		int sent = 0;
+
+		for(int i = 0; i < count; i++)
+		{
+			//Acceptors may keep the stack they are given, so each gets its own
+			if(distributor.allocated[i] > 0)
+			{
+				sent += emitHandlers[i].receiveGas(emitSides[i], new GasStack(stack.getGas(), distributor.allocated[i]), true);
+			}
+
+			emitHandlers[i] = null;
+		}
 
 		if(sent > 0 && FMLCommonHandler.instance().getEffectiveSide().isServer())
 		{
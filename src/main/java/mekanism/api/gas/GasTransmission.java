@@ -126,6 +126,17 @@ public final class GasTransmission
 	 * @return the amount of gas emitted
 	 */
 	public static int emit(GasStack stack, TileEntity from, Collection<EnumFacing> sides)
+	{
+		return emit(stack, getConnectedAcceptors(from, sides));
+	}
+	
+	/**
+	 * Emits gas to acceptors that have already been looked up, by splitting the received stack among them.
+	 * @param stack - the stack to output
+	 * @param possibleAcceptors - the acceptors to output to, indexed by the side they are on; null where there are none
+	 * @return the amount of gas emitted
+	 */
+	public static int emit(GasStack stack, IGasHandler[] possibleAcceptors)
 	{
 		if(stack == null)
 		{
@@ -133,7 +144,6 @@ public final class GasTransmission
 		}
 		
 		List<IGasHandler> availableAcceptors = new ArrayList<IGasHandler>();
-		IGasHandler[] possibleAcceptors = getConnectedAcceptors(from, sides);
 		
 		for(int i = 0; i < possibleAcceptors.length; i++)
 		{
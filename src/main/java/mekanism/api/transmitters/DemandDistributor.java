@@ -0,0 +1,72 @@
+package mekanism.api.transmitters;
+
+import java.util.Arrays;
+
+/**
+ * Splits an amount between acceptors according to how much each of them can take. Acceptors are served in order of
+ * increasing demand: anyone that needs less than an even share of what is left gets all it asked for, and whatever is
+ * left after that is split evenly between the rest. The scratch arrays are kept between calls so a network can use one
+ * distributor every tick without allocating.
+ */
+public class DemandDistributor
+{
+	public int[] demands = new int[0];
+	public int[] allocated = new int[0];
+
+	private long[] order = new long[0];
+
+	public void ensureCapacity(int size)
+	{
+		if(demands.length < size)
+		{
+			demands = new int[size];
+			allocated = new int[size];
+			order = new long[size];
+		}
+	}
+
+	/**
+	 * Fills allocated[0..count) from demands[0..count).
+	 * @param count - number of acceptors with a demand set
+	 * @param amount - total amount available
+	 * @return total amount allocated
+	 */
+	public int allocate(int count, int amount)
+	{
+		for(int i = 0; i < count; i++)
+		{
+			order[i] = ((long)Math.max(demands[i], 0) << 32) | i;
+			allocated[i] = 0;
+		}
+
+		Arrays.sort(order, 0, count);
+
+		int remaining = amount;
+
+		for(int n = 0; n < count && remaining > 0; n++)
+		{
+			int index = (int)(order[n] & 0xFFFFFFFFL);
+			int left = count-n;
+			int share = remaining/left;
+
+			if(demands[index] <= share)
+			{
+				allocated[index] = Math.max(demands[index], 0);
+				remaining -= allocated[index];
+			}
+			else {
+				//Everyone left wants more than an even share, so split what remains between them
+				int extra = remaining%left;
+
+				for(int m = count-1; m >= n; m--)
+				{
+					allocated[(int)(order[m] & 0xFFFFFFFFL)] = share + (extra-- > 0 ? 1 : 0);
+				}
+
+				remaining = 0;
+			}
+		}
+
+		return amount-remaining;
+	}
+}
@@ -5,6 +5,7 @@ import java.util.EnumSet;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map.Entry;
 import java.util.Set;
 
@@ -31,6 +32,8 @@ public abstract class DynamicNetwork<A, N extends DynamicNetwork<A, N>> implemen
 	public LinkedHashSet<IGridTransmitter<A, N>> transmittersToAdd = Sets.newLinkedHashSet();
 	public LinkedHashSet<IGridTransmitter<A, N>> transmittersAdded = Sets.newLinkedHashSet();
 
+	protected HashMap<Coord4D, IGridTransmitter<A, N>> transmitterCoords = new HashMap<Coord4D, IGridTransmitter<A, N>>();
+
 	public HashMap<Coord4D, A> possibleAcceptors = new HashMap<Coord4D, A>();
 	public HashMap<Coord4D, EnumSet<EnumFacing>> acceptorDirections = new HashMap<Coord4D, EnumSet<EnumFacing>>();
 	public HashMap<IGridTransmitter<A, N>, EnumSet<EnumFacing>> changedAcceptors = Maps.newHashMap();
@@ -74,6 +77,7 @@ public abstract class DynamicNetwork<A, N extends DynamicNetwork<A, N>> implemen
 					transmitter.setTransmitterNetwork((N)this);
 					absorbBuffer(transmitter);
 					transmitters.add(transmitter);
+					transmitterCoords.put(transmitter.coord(), transmitter);
 				}
 			}
 			
@@ -155,6 +159,7 @@ public abstract class DynamicNetwork<A, N extends DynamicNetwork<A, N>> implemen
             if(!transmitter.isValid())
             {
                 iter.remove();
+                transmitterCoords.remove(transmitter.coord());
                 continue;
             }
         }
@@ -175,6 +180,7 @@ public abstract class DynamicNetwork<A, N extends DynamicNetwork<A, N>> implemen
 		}
 		
 		transmitters.clear();
+		transmitterCoords.clear();
 		deregister();
 	}
 
@@ -188,6 +194,110 @@ public abstract class DynamicNetwork<A, N extends DynamicNetwork<A, N>> implemen
 		}
 	}
 
+	/**
+	 * Removes a set of changed transmitters from this network without tearing the whole network down. Transmitters that are
+	 * no longer valid are dropped, transmitters that are still valid are orphaned so they can rejoin through the registry,
+	 * and only the components that have actually become disconnected from the rest of the network are split off. The
+	 * buffer, acceptors and transmitters of the remaining part are kept as they are.
+	 * @param changed - transmitters in this network that were removed or had their connections changed
+	 */
+	public void split(Collection<IGridTransmitter<A, N>> changed)
+	{
+		Set<Coord4D> neighbours = new LinkedHashSet<Coord4D>();
+		List<IGridTransmitter<A, N>> toOrphan = Lists.newArrayList();
+
+		for(IGridTransmitter<A, N> transmitter : changed)
+		{
+			Coord4D coord = transmitter.coord();
+
+			if(transmitterCoords.remove(coord) == null && !transmitters.contains(transmitter))
+			{
+				continue;
+			}
+
+			for(EnumFacing side : EnumFacing.VALUES)
+			{
+				removeAcceptorDirection(coord.offset(side), side.getOpposite());
+				neighbours.add(coord.offset(side));
+			}
+
+			changedAcceptors.remove(transmitter);
+
+			if(transmitter.isValid())
+			{
+				toOrphan.add(transmitter);
+			}
+			else {
+				transmitters.remove(transmitter);
+			}
+		}
+
+		updateCapacity();
+		clampBuffer();
+
+		NetworkSplitter<A, N> splitter = new NetworkSplitter<A, N>(this, neighbours);
+		splitter.start();
+
+		for(Collection<IGridTransmitter<A, N>> component : splitter.detached)
+		{
+			for(IGridTransmitter<A, N> transmitter : component)
+			{
+				Coord4D coord = transmitter.coord();
+				transmitterCoords.remove(coord);
+
+				for(EnumFacing side : EnumFacing.VALUES)
+				{
+					removeAcceptorDirection(coord.offset(side), side.getOpposite());
+				}
+
+				changedAcceptors.remove(transmitter);
+				toOrphan.add(transmitter);
+			}
+		}
+
+		//Shares are based on the current size, so update all of them before any buffer is taken
+		for(IGridTransmitter<A, N> transmitter : toOrphan)
+		{
+			transmitter.updateShare();
+		}
+
+		for(IGridTransmitter<A, N> transmitter : toOrphan)
+		{
+			invalidateTransmitter(transmitter);
+			transmitters.remove(transmitter);
+		}
+
+		if(transmitters.isEmpty())
+		{
+			deregister();
+			return;
+		}
+
+		updateCapacity();
+		clampBuffer();
+	}
+
+	protected void removeAcceptorDirection(Coord4D acceptorCoord, EnumFacing side)
+	{
+		EnumSet<EnumFacing> directions = acceptorDirections.get(acceptorCoord);
+
+		if(directions != null)
+		{
+			directions.remove(side);
+
+			if(directions.isEmpty())
+			{
+				possibleAcceptors.remove(acceptorCoord);
+				acceptorDirections.remove(acceptorCoord);
+			}
+		}
+	}
+
+	public IGridTransmitter<A, N> getTransmitter(Coord4D coord)
+	{
+		return transmitterCoords.get(coord);
+	}
+
 	public void acceptorChanged(IGridTransmitter<A, N> transmitter, EnumFacing side)
 	{
 		EnumSet<EnumFacing> directions = changedAcceptors.get(transmitter);
@@ -210,6 +320,7 @@ public abstract class DynamicNetwork<A, N extends DynamicNetwork<A, N>> implemen
 			transmitter.setTransmitterNetwork((N)this);
 			transmitters.add(transmitter);
 			transmittersAdded.add(transmitter);
+			transmitterCoords.put(transmitter.coord(), transmitter);
 		}
 		
 		possibleAcceptors.putAll(net.possibleAcceptors);
@@ -286,6 +397,7 @@ public abstract class DynamicNetwork<A, N extends DynamicNetwork<A, N>> implemen
 	public void deregister()
 	{
 		transmitters.clear();
+		transmitterCoords.clear();
 
 		if(FMLCommonHandler.instance().getEffectiveSide().isServer())
 		{
@@ -0,0 +1,159 @@
+package mekanism.api.transmitters;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+
+import mekanism.api.Coord4D;
+import net.minecraft.util.EnumFacing;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+
+/**
+ * Incremental connectivity check used when transmitters leave a DynamicNetwork. Starting from the remaining neighbours of
+ * the removed transmitters, one breadth-first front is grown per neighbour, one transmitter at a time. Fronts that touch are
+ * merged, and a front that runs out of transmitters before meeting the others has found a detached component. The search
+ * stops as soon as a single front is left, so only the smaller side(s) of a split are ever walked.
+ */
+public class NetworkSplitter<A, N extends DynamicNetwork<A, N>>
+{
+	public DynamicNetwork<A, N> network;
+
+	public Collection<Coord4D> startPoints;
+
+	public List<Collection<IGridTransmitter<A, N>>> detached = Lists.newArrayList();
+
+	private HashMap<Coord4D, Integer> owners = Maps.newHashMap();
+
+	private List<ArrayDeque<IGridTransmitter<A, N>>> queues = Lists.newArrayList();
+	private List<List<IGridTransmitter<A, N>>> members = Lists.newArrayList();
+	private List<Integer> parents = Lists.newArrayList();
+
+	private boolean[] finished;
+
+	public NetworkSplitter(DynamicNetwork<A, N> net, Collection<Coord4D> start)
+	{
+		network = net;
+		startPoints = start;
+	}
+
+	public void start()
+	{
+		for(Coord4D coord : startPoints)
+		{
+			IGridTransmitter<A, N> transmitter = network.getTransmitter(coord);
+
+			if(transmitter == null || !transmitter.isValid() || owners.containsKey(coord))
+			{
+				continue;
+			}
+
+			int front = queues.size();
+
+			ArrayDeque<IGridTransmitter<A, N>> queue = new ArrayDeque<IGridTransmitter<A, N>>();
+			queue.add(transmitter);
+
+			List<IGridTransmitter<A, N>> visited = new ArrayList<IGridTransmitter<A, N>>();
+			visited.add(transmitter);
+
+			owners.put(coord, front);
+			queues.add(queue);
+			members.add(visited);
+			parents.add(front);
+		}
+
+		finished = new boolean[queues.size()];
+		int active = queues.size();
+
+		while(active > 1)
+		{
+			for(int front = 0; front < queues.size() && active > 1; front++)
+			{
+				if(finished[front] || find(front) != front)
+				{
+					continue;
+				}
+
+				ArrayDeque<IGridTransmitter<A, N>> queue = queues.get(front);
+
+				if(queue.isEmpty())
+				{
+					finished[front] = true;
+					detached.add(members.get(front));
+					active--;
+
+					continue;
+				}
+
+				IGridTransmitter<A, N> transmitter = queue.poll();
+				int root = front;
+
+				for(EnumFacing side : EnumFacing.VALUES)
+				{
+					Coord4D coord = transmitter.getAdjacentConnectableTransmitterCoord(side);
+
+					if(coord == null)
+					{
+						continue;
+					}
+
+					Integer owner = owners.get(coord);
+
+					if(owner == null)
+					{
+						IGridTransmitter<A, N> next = network.getTransmitter(coord);
+
+						if(next != null && next.isValid())
+						{
+							owners.put(coord, root);
+							queues.get(root).add(next);
+							members.get(root).add(next);
+						}
+					}
+					else {
+						int other = find(owner);
+
+						if(other != root && !finished[other])
+						{
+							root = merge(root, other);
+							active--;
+						}
+					}
+				}
+			}
+		}
+	}
+
+	private int find(int front)
+	{
+		while(parents.get(front) != front)
+		{
+			parents.set(front, parents.get(parents.get(front)));
+			front = parents.get(front);
+		}
+
+		return front;
+	}
+
+	/**
+	 * Merges two fronts, always folding the smaller one into the larger so each transmitter is only copied a few times.
+	 */
+	private int merge(int first, int second)
+	{
+		int into = members.get(first).size() >= members.get(second).size() ? first : second;
+		int from = into == first ? second : first;
+
+		queues.get(into).addAll(queues.get(from));
+		members.get(into).addAll(members.get(from));
+
+		queues.get(from).clear();
+		members.get(from).clear();
+
+		parents.set(from, into);
+
+		return into;
+	}
+}
@@ -2,6 +2,7 @@ package mekanism.api.transmitters;
 
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 
 import mekanism.api.Coord4D;
@@ -16,6 +17,7 @@ import net.minecraftforge.fml.relauncher.Side;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
+import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
 import com.google.common.collect.Sets;
 
@@ -116,6 +118,8 @@ public class TransmitterNetworkRegistry
 			logger.info("Dealing with " + invalidTransmitters.size() + " invalid Transmitters");
 		}
 		
+		HashMap<DynamicNetwork, List<IGridTransmitter>> changedNetworks = Maps.newHashMap();
+		
 		for(IGridTransmitter invalid : invalidTransmitters)
 		{
 			if(!(invalid.isOrphan() && invalid.isValid()))
@@ -124,11 +128,29 @@ public class TransmitterNetworkRegistry
 				
 				if(n != null)
 				{
-					n.invalidate();
+					List<IGridTransmitter> changed = changedNetworks.get(n);
+					
+					if(changed == null)
+					{
+						changed = Lists.newArrayList();
+						changedNetworks.put(n, changed);
+					}
+					
+					changed.add(invalid);
 				}
 			}
 		}
 		
+		for(Map.Entry<DynamicNetwork, List<IGridTransmitter>> entry : changedNetworks.entrySet())
+		{
+			if(MekanismAPI.debug)
+			{
+				logger.info("Splitting " + entry.getValue().size() + " changed transmitters from " + entry.getKey());
+			}
+			
+			entry.getKey().split(entry.getValue());
+		}
+		
 		invalidTransmitters.clear();
 	}
 
@@ -0,0 +1,210 @@
+package mekanism.common;
+
+import java.util.ArrayDeque;
+import java.util.BitSet;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Map;
+
+import net.minecraft.nbt.NBTTagCompound;
+import net.minecraft.util.math.BlockPos;
+
+/**
+ * Breadth-first frontier of block positions, used by the Electric Pump and Fluidic Plenisher to walk the blocks they
+ * work on. Positions are queued packed into longs, so they come out nearest first by path length, and each position is
+ * only ever queued once until the frontier is cleared. Visited positions are kept as a bitset per 16x16x16 section, so
+ * memory only grows with the sections the walk has reached.
+ */
+public class BlockFrontier
+{
+	private static final long SECTION_MASK = ~((15L << 38) | (15L << 26) | 15L);
+
+	private Deque<Long> queue = new ArrayDeque<Long>();
+
+	private Map<Long, BitSet> visited = new HashMap<Long, BitSet>();
+
+	private int visitedCount;
+
+	/**
+	 * Queues a position if it hasn't been visited yet.
+	 * @param pos - position to queue
+	 * @return true if the position was queued
+	 */
+	public boolean add(BlockPos pos)
+	{
+		if(!visit(pos))
+		{
+			return false;
+		}
+
+		queue.add(pos.toLong());
+
+		return true;
+	}
+
+	/**
+	 * Marks a position as visited without queueing it.
+	 * @param pos - position to mark
+	 * @return false if the position had already been visited
+	 */
+	public boolean visit(BlockPos pos)
+	{
+		long packed = pos.toLong();
+		long key = packed & SECTION_MASK;
+		BitSet section = visited.get(key);
+
+		if(section == null)
+		{
+			section = new BitSet(4096);
+			visited.put(key, section);
+		}
+
+		int index = getIndex(pos);
+
+		if(section.get(index))
+		{
+			return false;
+		}
+
+		section.set(index);
+		visitedCount++;
+
+		return true;
+	}
+
+	public boolean isVisited(BlockPos pos)
+	{
+		BitSet section = visited.get(pos.toLong() & SECTION_MASK);
+
+		return section != null && section.get(getIndex(pos));
+	}
+
+	/**
+	 * @return the nearest queued position, or null if the frontier is empty
+	 */
+	public BlockPos peek()
+	{
+		Long packed = queue.peek();
+
+		return packed != null ? BlockPos.fromLong(packed) : null;
+	}
+
+	/**
+	 * Removes the nearest queued position. It stays visited.
+	 * @return the removed position, or null if the frontier is empty
+	 */
+	public BlockPos poll()
+	{
+		Long packed = queue.poll();
+
+		return packed != null ? BlockPos.fromLong(packed) : null;
+	}
+
+	public boolean isEmpty()
+	{
+		return queue.isEmpty();
+	}
+
+	public int size()
+	{
+		return queue.size();
+	}
+
+	/**
+	 * @return how many positions have been visited, queued or not
+	 */
+	public int getVisitedCount()
+	{
+		return visitedCount;
+	}
+
+	public void clear()
+	{
+		queue.clear();
+		visited.clear();
+		visitedCount = 0;
+	}
+
+	/**
+	 * Saves the queued positions, and the visited ones if saveVisited is set. Positions are stored as pairs of ints in an
+	 * int array, which is far smaller than a compound tag per position.
+	 * @param nbtTags - tag to write to
+	 * @param name - key to save under
+	 * @param saveVisited - whether to save the visited positions as well
+	 */
+	public void write(NBTTagCompound nbtTags, String name, boolean saveVisited)
+	{
+		if(!queue.isEmpty())
+		{
+			int[] queued = new int[queue.size()*2];
+			int i = 0;
+
+			for(long packed : queue)
+			{
+				queued[i++] = (int)(packed >> 32);
+				queued[i++] = (int)packed;
+			}
+
+			nbtTags.setIntArray(name, queued);
+		}
+
+		if(saveVisited && visitedCount > 0)
+		{
+			int[] positions = new int[visitedCount*2];
+			int i = 0;
+
+			for(Map.Entry<Long, BitSet> entry : visited.entrySet())
+			{
+				BlockPos corner = BlockPos.fromLong(entry.getKey());
+				BitSet section = entry.getValue();
+
+				for(int index = section.nextSetBit(0); index >= 0; index = section.nextSetBit(index+1))
+				{
+					long packed = corner.add(index >> 8, (index >> 4) & 15, index & 15).toLong();
+
+					positions[i++] = (int)(packed >> 32);
+					positions[i++] = (int)packed;
+				}
+			}
+
+			nbtTags.setIntArray(name + "Visited", positions);
+		}
+	}
+
+	/**
+	 * Loads positions saved by write(), replacing this frontier's contents.
+	 * @param nbtTags - tag to read from
+	 * @param name - key they were saved under
+	 */
+	public void read(NBTTagCompound nbtTags, String name)
+	{
+		clear();
+
+		int[] positions = nbtTags.getIntArray(name + "Visited");
+
+		for(int i = 0; i+1 < positions.length; i += 2)
+		{
+			visit(unpack(positions[i], positions[i+1]));
+		}
+
+		int[] queued = nbtTags.getIntArray(name);
+
+		for(int i = 0; i+1 < queued.length; i += 2)
+		{
+			BlockPos pos = unpack(queued[i], queued[i+1]);
+
+			visit(pos);
+			queue.add(pos.toLong());
+		}
+	}
+
+	private static BlockPos unpack(int high, int low)
+	{
+		return BlockPos.fromLong(((long)high << 32) | (low & 0xFFFFFFFFL));
+	}
+
+	private static int getIndex(BlockPos pos)
+	{
+		return ((pos.getX() & 15) << 8) | ((pos.getY() & 15) << 4) | (pos.getZ() & 15);
+	}
+}
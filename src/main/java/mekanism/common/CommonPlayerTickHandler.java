@@ -32,6 +32,17 @@ public class CommonPlayerTickHandler
 	{
 		if(event.phase == Phase.END && event.side == Side.SERVER)
 		{
+			if(event.player instanceof EntityPlayerMP)
+			{
+				Mekanism.packetHandler.playerIndex.update((EntityPlayerMP)event.player);
+			}
+			
+			if(Mekanism.voiceManager != null && Mekanism.voiceManager.running)
+			{
+				//The held item is checked every tick, the rest of the inventory once a second to catch walkie-talkies moved around
+				Mekanism.voiceManager.updatePlayer(event.player, event.player.ticksExisted % 20 == 0);
+			}
+			
 			tickEnd(event.player);
 		}
 	}
@@ -27,6 +27,8 @@ public class CommonPlayerTracker
 	{
 		if(!event.player.worldObj.isRemote)
 		{
+			Mekanism.packetHandler.playerIndex.update((EntityPlayerMP)event.player);
+			
 			Mekanism.packetHandler.sendTo(new ConfigSyncMessage(), (EntityPlayerMP)event.player);
 			Mekanism.packetHandler.sendTo(new BoxBlacklistMessage(), (EntityPlayerMP)event.player);
 			Mekanism.packetHandler.sendTo(new JetpackDataMessage(JetpackPacket.FULL, null, false), (EntityPlayerMP)event.player);
@@ -43,6 +45,11 @@ public class CommonPlayerTracker
 		Mekanism.jetpackOn.remove(event.player.getName());
 		Mekanism.gasmaskOn.remove(event.player.getName());
 		Mekanism.flamethrowerActive.remove(event.player.getName());
+
+		if(!event.player.worldObj.isRemote)
+		{
+			Mekanism.packetHandler.playerIndex.remove((EntityPlayerMP)event.player);
+		}
 	}
 
 	@SubscribeEvent
@@ -54,6 +61,8 @@ public class CommonPlayerTracker
 
 		if(!event.player.worldObj.isRemote)
 		{
+			Mekanism.packetHandler.playerIndex.update((EntityPlayerMP)event.player);
+			
 			Mekanism.packetHandler.sendTo(new JetpackDataMessage(JetpackPacket.FULL, null, false), (EntityPlayerMP)event.player);
 			Mekanism.packetHandler.sendTo(new ScubaTankDataMessage(ScubaTankPacket.FULL, null, false), (EntityPlayerMP)event.player);
 		}
@@ -63,6 +63,7 @@ import mekanism.common.item.ItemPortableTeleporter;
 import mekanism.common.network.PacketPortableTeleporter.PortableTeleporterMessage;
 import mekanism.common.tile.TileEntityAdvancedElectricMachine;
 import mekanism.common.tile.TileEntityAdvancedFactory;
+import mekanism.common.tile.TileEntityBasicBlock;
 import mekanism.common.tile.TileEntityBin;
 import mekanism.common.tile.TileEntityBoilerCasing;
 import mekanism.common.tile.TileEntityBoilerValve;
@@ -215,6 +216,7 @@ public class CommonProxy implements IGuiProvider
 		general.updateNotifications = Mekanism.configuration.get(Configuration.CATEGORY_GENERAL, "UpdateNotifications", true).getBoolean();
 		general.controlCircuitOreDict = Mekanism.configuration.get(Configuration.CATEGORY_GENERAL, "ControlCircuitOreDict", true).getBoolean();
 		general.logPackets = Mekanism.configuration.get(Configuration.CATEGORY_GENERAL, "LogPackets", false).getBoolean();
+		general.frequencyAuditInterval = Mekanism.configuration.get(Configuration.CATEGORY_GENERAL, "FrequencyAuditInterval", 100, "Ticks between checks for stale teleporter and entangloporter locations. 0 to disable.", 0, Integer.MAX_VALUE).getInt();
 		general.dynamicTankEasterEgg = Mekanism.configuration.get(Configuration.CATEGORY_GENERAL, "DynamicTankEasterEgg", false).getBoolean();
 		general.voiceServerEnabled = Mekanism.configuration.get(Configuration.CATEGORY_GENERAL, "VoiceServerEnabled", true).getBoolean();
 		general.cardboardSpawners = Mekanism.configuration.get(Configuration.CATEGORY_GENERAL, "AllowSpawnerBoxPickup", true).getBoolean();
@@ -254,6 +256,8 @@ public class CommonProxy implements IGuiProvider
 		general.maxPumpRange = Mekanism.configuration.get(Configuration.CATEGORY_GENERAL, "MaxPumpRange", 80).getInt();
 		general.pumpWaterSources = Mekanism.configuration.get(Configuration.CATEGORY_GENERAL, "PumpWaterSources", false).getBoolean();
 		general.maxPlenisherNodes = Mekanism.configuration.get(Configuration.CATEGORY_GENERAL, "MaxPlenisherNodes", 4000).getInt();
+		general.maxTransporterPathsPerTick = Mekanism.configuration.get(Configuration.CATEGORY_GENERAL, "MaxTransporterPathsPerTick", 32, "Maximum number of new logistical transporter path searches per network per tick", 1, Integer.MAX_VALUE).getInt();
+		general.guiSyncInterval = Mekanism.configuration.get(Configuration.CATEGORY_GENERAL, "GuiSyncInterval", 1, "Ticks between updates sent to players with a machine's GUI open, if anything in it has changed", 1, 200).getInt();
 		general.evaporationHeatDissipation = Mekanism.configuration.get(Configuration.CATEGORY_GENERAL, "EvaporationHeatDissipation", 0.02D).getDouble();
 		general.evaporationTempMultiplier = Mekanism.configuration.get(Configuration.CATEGORY_GENERAL, "EvaporationTempMultiplier", 0.1D).getDouble();
 		general.evaporationSolarMultiplier = Mekanism.configuration.get(Configuration.CATEGORY_GENERAL, "EvaporationSolarMultiplier", 0.2D).getDouble();
@@ -599,6 +603,8 @@ public class CommonProxy implements IGuiProvider
 		BlockStateMachine.MachineType.updateAllUsages();
 		
 		updateConfigRecipes();
+		
+		TileEntityBasicBlock.onConfigChanged();
 
 		if(fromPacket)
 		{
@@ -5,8 +5,8 @@ import java.util.LinkedList;
 import java.util.Queue;
 import java.util.Random;
 
+import mekanism.common.content.transporter.TransporterManager;
 import mekanism.common.frequency.FrequencyManager;
-import mekanism.common.multiblock.MultiblockManager;
 import net.minecraft.util.math.ChunkPos;
 import net.minecraft.world.World;
 import net.minecraft.world.gen.ChunkProviderServer;
@@ -74,6 +74,8 @@ public class CommonWorldTickHandler
 			{
 				FrequencyManager.load(world);
 			}
+			
+			TransporterManager.clearPredictions();
 		}
 	}
 
@@ -81,7 +83,6 @@ public class CommonWorldTickHandler
 	{
 		if(!world.isRemote)
 		{
-			MultiblockManager.tick(world);
 			FrequencyManager.tick(world);
 			
 			if(chunkRegenMap == null) 
@@ -1,11 +1,10 @@
 package mekanism.common;
 
-import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
-import java.util.Collections;
 import java.util.EnumSet;
 import java.util.HashSet;
-import java.util.List;
+import java.util.Map.Entry;
 import java.util.Set;
 
 import mekanism.api.Coord4D;
@@ -32,6 +31,15 @@ public class EnergyNetwork extends DynamicNetwork<EnergyAcceptorWrapper, EnergyN
 
 	public EnergyStack buffer = new EnergyStack(0);
 
+	private EnergyAcceptorWrapper[][] cachedAcceptors = new EnergyAcceptorWrapper[0][];
+	private EnumFacing[][] cachedSides = new EnumFacing[0][];
+	private TileEntity[] cachedTiles = new TileEntity[0];
+	private boolean[] saturated = new boolean[0];
+	private int cachedCount = 0;
+	private int emitOffset = 0;
+
+	private boolean acceptorsDirty = true;
+
 	public EnergyNetwork() {}
 
 	public EnergyNetwork(Collection<EnergyNetwork> networks)
@@ -120,6 +128,13 @@ public class EnergyNetwork extends DynamicNetwork<EnergyAcceptorWrapper, EnergyN
 		boolean tryAgain;
 		int i = 0;
 
+		if(acceptorsDirty)
+		{
+			refreshAcceptorCache();
+		}
+
+		Arrays.fill(saturated, 0, cachedCount, false);
+
 		do {
 			double prev = sent;
 			sent += doEmit(energyToSend-sent);
@@ -147,51 +162,181 @@ public class EnergyNetwork extends DynamicNetwork<EnergyAcceptorWrapper, EnergyN
 	}
 
 	/**
+	 * Sends energy to every acceptor that can still take some, in a single pass over the cached acceptor index. Each
+	 * acceptor is offered an equal share of what is left, so energy refused by one acceptor is carried over to the ones
+	 * after it. Acceptors that take less than their share are skipped for the rest of the tick.
 	 * @return sent
 	 */
 	public double doEmit(double energyToSend)
 	{
 		double sent = 0;
+		int remainingAcceptors = 0;
 
-		List<Pair<Coord4D, EnergyAcceptorWrapper>> availableAcceptors = new ArrayList<>();
-		availableAcceptors.addAll(getAcceptors(null));
+		for(int i = 0; i < cachedCount; i++)
+		{
+			if(!saturated[i])
+			{
+				remainingAcceptors++;
+			}
+		}
 
-		Collections.shuffle(availableAcceptors);
+		if(remainingAcceptors == 0)
+		{
+			return 0;
+		}
+
+		emitOffset = (emitOffset+1) % cachedCount;
 
-		if(!availableAcceptors.isEmpty())
+		for(int n = 0; n < cachedCount && remainingAcceptors > 0; n++)
 		{
-			int divider = availableAcceptors.size();
-			double remaining = energyToSend % divider;
-			double sending = (energyToSend-remaining)/divider;
+			int i = (emitOffset+n) % cachedCount;
 
-			for(Pair<Coord4D, EnergyAcceptorWrapper> pair : availableAcceptors)
+			if(saturated[i])
 			{
-				EnergyAcceptorWrapper acceptor = pair.getRight();
-				double currentSending = sending+remaining;
-				EnumSet<EnumFacing> sides = acceptorDirections.get(pair.getLeft());
+				continue;
+			}
 
-				if(sides == null || sides.isEmpty())
-				{
-					continue;
-				}
+			double sending = (energyToSend-sent)/remainingAcceptors;
+			double accepted = 0;
 
-				for(EnumFacing side : sides)
-				{
-					double prev = sent;
+			remainingAcceptors--;
+
+			if(cachedTiles[i].isInvalid())
+			{
+				saturated[i] = true;
+				acceptorsDirty = true;
 
-					sent += acceptor.transferEnergyToAcceptor(side, currentSending);
+				continue;
+			}
 
-					if(sent > prev)
+			EnergyAcceptorWrapper[] acceptors = cachedAcceptors[i];
+			EnumFacing[] sides = cachedSides[i];
+
+			for(int j = 0; j < acceptors.length; j++)
+			{
+				if(acceptors[j].canReceiveEnergy(sides[j]) && acceptors[j].needsEnergy(sides[j]))
+				{
+					accepted = acceptors[j].transferEnergyToAcceptor(sides[j], sending);
+
+					if(accepted > 0)
 					{
 						break;
 					}
 				}
 			}
+
+			sent += accepted;
+
+			if(accepted < sending)
+			{
+				saturated[i] = true;
+			}
 		}
 
 		return sent;
 	}
 
+	/**
+	 * Rebuilds the acceptor index used by doEmit. This only happens after the acceptors of this network have changed,
+	 * so the per-tick emit path doesn't have to look up tiles or create wrappers.
+	 */
+	private void refreshAcceptorCache()
+	{
+		int size = acceptorDirections.size();
+
+		if(cachedAcceptors.length < size)
+		{
+			cachedAcceptors = new EnergyAcceptorWrapper[size][];
+			cachedSides = new EnumFacing[size][];
+			cachedTiles = new TileEntity[size];
+			saturated = new boolean[size];
+		}
+
+		Arrays.fill(cachedAcceptors, null);
+		Arrays.fill(cachedSides, null);
+		Arrays.fill(cachedTiles, null);
+
+		cachedCount = 0;
+
+		for(Entry<Coord4D, EnumSet<EnumFacing>> entry : acceptorDirections.entrySet())
+		{
+			EnumSet<EnumFacing> sides = entry.getValue();
+
+			if(sides == null || sides.isEmpty())
+			{
+				continue;
+			}
+
+			TileEntity tile = entry.getKey().getTileEntity(getWorld());
+
+			if(tile == null || tile.isInvalid())
+			{
+				continue;
+			}
+
+			EnergyAcceptorWrapper[] acceptors = new EnergyAcceptorWrapper[sides.size()];
+			EnumFacing[] acceptorSides = new EnumFacing[sides.size()];
+			int found = 0;
+
+			for(EnumFacing side : sides)
+			{
+				EnergyAcceptorWrapper acceptor = EnergyAcceptorWrapper.get(tile, side);
+
+				if(acceptor != null)
+				{
+					acceptors[found] = acceptor;
+					acceptorSides[found] = side;
+					found++;
+				}
+			}
+
+			if(found == 0)
+			{
+				continue;
+			}
+
+			cachedAcceptors[cachedCount] = found < acceptors.length ? Arrays.copyOf(acceptors, found) : acceptors;
+			cachedSides[cachedCount] = found < acceptorSides.length ? Arrays.copyOf(acceptorSides, found) : acceptorSides;
+			cachedTiles[cachedCount] = tile;
+			cachedCount++;
+		}
+
+		emitOffset = 0;
+		acceptorsDirty = false;
+	}
+
+	@Override
+	public void updateTransmitterOnSide(IGridTransmitter<EnergyAcceptorWrapper, EnergyNetwork> transmitter, EnumFacing side)
+	{
+		super.updateTransmitterOnSide(transmitter, side);
+
+		acceptorsDirty = true;
+	}
+
+	@Override
+	public void acceptorChanged(IGridTransmitter<EnergyAcceptorWrapper, EnergyNetwork> transmitter, EnumFacing side)
+	{
+		super.acceptorChanged(transmitter, side);
+
+		acceptorsDirty = true;
+	}
+
+	@Override
+	protected void removeAcceptorDirection(Coord4D acceptorCoord, EnumFacing side)
+	{
+		super.removeAcceptorDirection(acceptorCoord, side);
+
+		acceptorsDirty = true;
+	}
+
+	@Override
+	public void adoptTransmittersAndAcceptorsFrom(EnergyNetwork net)
+	{
+		super.adoptTransmittersAndAcceptorsFrom(net);
+
+		acceptorsDirty = true;
+	}
+
 	@Override
 	public Set<Pair<Coord4D, EnergyAcceptorWrapper>> getAcceptors(Object data)
 	{
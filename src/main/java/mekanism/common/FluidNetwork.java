@@ -1,14 +1,14 @@
 package mekanism.common;
 
-import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
-import java.util.Collections;
 import java.util.EnumSet;
 import java.util.HashSet;
-import java.util.List;
+import java.util.Map.Entry;
 import java.util.Set;
 
 import mekanism.api.Coord4D;
+import mekanism.api.transmitters.DemandDistributor;
 import mekanism.api.transmitters.DynamicNetwork;
 import mekanism.api.transmitters.IGridTransmitter;
 import mekanism.api.util.CapabilityUtils;
@@ -42,6 +42,12 @@ public class FluidNetwork extends DynamicNetwork<IFluidHandler, FluidNetwork>
 
 	public int prevTransferAmount = 0;
 
+	private IFluidHandler[] emitHandlers = new IFluidHandler[0];
+	/** Reused for simulated fills only, as acceptors don't keep those. */
+	private FluidStack emitStack;
+
+	private DemandDistributor distributor = new DemandDistributor();
+
 	public FluidNetwork() {}
 
 	public FluidNetwork(Collection<FluidNetwork> networks)
@@ -137,50 +143,89 @@ public class FluidNetwork extends DynamicNetwork<IFluidHandler, FluidNetwork>
 		return getCapacity()-(buffer != null ? buffer.amount : 0);
 	}
 
+	/**
+	 * Asks every acceptor how much of the fluid it can take with a simulated fill, then splits the fluid between them
+	 * by demand so the whole amount can leave in one tick. A single FluidStack is reused for the simulated fills, but each
+	 * real fill gets its own copy, as acceptors may keep the stack they are given.
+	 */
 	public int tickEmit(FluidStack fluidToSend, boolean doTransfer)
 	{
-		List<Pair<Coord4D, IFluidHandler>> availableAcceptors = new ArrayList<>();
-		availableAcceptors.addAll(getAcceptors(fluidToSend));
+		if(fluidToSend == null || FMLCommonHandler.instance().getEffectiveSide().isClient())
+		{
+			return 0;
+		}
+
+		int size = acceptorDirections.size();
+
+		if(emitHandlers.length < size)
+		{
+			emitHandlers = new IFluidHandler[size];
+		}
 
-		Collections.shuffle(availableAcceptors);
+		distributor.ensureCapacity(size);
 
-		int fluidSent = 0;
+		if(emitStack == null || !emitStack.isFluidEqual(fluidToSend))
+		{
+			emitStack = new FluidStack(fluidToSend, 0);
+		}
+
+		int count = 0;
 
-		if(!availableAcceptors.isEmpty())
+		for(Entry<Coord4D, EnumSet<EnumFacing>> entry : acceptorDirections.entrySet())
 		{
-			int divider = availableAcceptors.size();
-			int remaining = fluidToSend.amount % divider;
-			int sending = (fluidToSend.amount-remaining)/divider;
+			EnumSet<EnumFacing> sides = entry.getValue();
 
-			for(Pair<Coord4D, IFluidHandler> pair : availableAcceptors)
+			if(sides == null || sides.isEmpty())
 			{
-				int currentSending = sending;
-				IFluidHandler acceptor = pair.getRight();
-				EnumSet<EnumFacing> sides = acceptorDirections.get(pair.getLeft());
+				continue;
+			}
+
+			TileEntity tile = entry.getKey().getTileEntity(getWorld());
 
-				if(remaining > 0)
+			for(EnumFacing side : sides)
+			{
+				if(!CapabilityUtils.hasCapability(tile, CapabilityFluidHandler.FLUID_HANDLER_CAPABILITY, side))
 				{
-					currentSending++;
-					remaining--;
+					continue;
 				}
 
-				for(EnumFacing side : sides)
+				IFluidHandler acceptor = CapabilityUtils.getCapability(tile, CapabilityFluidHandler.FLUID_HANDLER_CAPABILITY, side);
+
+				if(acceptor != null && PipeUtils.canFill(acceptor, fluidToSend))
 				{
-					int prev = fluidSent;
+					emitStack.amount = fluidToSend.amount;
+					int demand = acceptor.fill(emitStack, false);
 
-					if(acceptor != null && fluidToSend != null)
+					if(demand > 0)
 					{
-						fluidSent += acceptor.fill(PipeUtils.copy(fluidToSend, currentSending), doTransfer);
-					}
+						emitHandlers[count] = acceptor;
+						distributor.demands[count] = demand;
+						count++;
 
-					if(fluidSent > prev)
-					{
 						break;
 					}
 				}
 			}
 		}
 
+		int fluidSent = distributor.allocate(count, fluidToSend.amount);
+
+		if(doTransfer)
+		{
+			fluidSent = 0;
+
+			for(int i = 0; i < count; i++)
+			{
+				//Acceptors may keep the stack they are given, so each gets its own
+				if(distributor.allocated[i] > 0)
+				{
+					fluidSent += emitHandlers[i].fill(new FluidStack(fluidToSend, distributor.allocated[i]), true);
+				}
+			}
+		}
+
+		Arrays.fill(emitHandlers, 0, count, null);
+
 		if(doTransfer && fluidSent > 0 && FMLCommonHandler.instance().getEffectiveSide().isServer())
 		{
 			didTransfer = true;
@@ -7,6 +7,8 @@ public class HashList<T> implements Iterable<T>
 {
 	private ArrayList<T> list = new ArrayList<T>(256);
 	
+	private int version;
+	
 	private HashList(ArrayList<T> newList)
 	{
 		list = newList;
@@ -22,6 +24,7 @@ public class HashList<T> implements Iterable<T>
 	public void clear()
 	{
 		list.clear();
+		version++;
 	}
 
 	public T get(int index)
@@ -39,6 +42,7 @@ public class HashList<T> implements Iterable<T>
 		if(!list.contains(obj))
 		{
 			list.add(obj);
+			version++;
 		}
 	}
 
@@ -55,6 +59,7 @@ public class HashList<T> implements Iterable<T>
 			}
 
 			list.add(index, obj);
+			version++;
 		}
 	}
 
@@ -71,6 +76,7 @@ public class HashList<T> implements Iterable<T>
 		}
 
 		list.remove(index);
+		version++;
 	}
 
 	public void replace(int index, T obj)
@@ -85,7 +91,10 @@ public class HashList<T> implements Iterable<T>
 
 	public void remove(T obj)
 	{
-		list.remove(obj);
+		if(list.remove(obj))
+		{
+			version++;
+		}
 	}
 
 	public int indexOf(T obj)
@@ -98,6 +107,16 @@ public class HashList<T> implements Iterable<T>
 		return list.size();
 	}
 	
+	/**
+	 * Gets a counter that changes whenever this list is changed, so anything built from the list can tell when it needs
+	 * rebuilding.
+	 * @return this list's version
+	 */
+	public int getVersion()
+	{
+		return version;
+	}
+	
 	@Override
 	public HashList<T> clone()
 	{
@@ -115,6 +134,7 @@ public class HashList<T> implements Iterable<T>
 		T temp = list.get(source);
 		list.set(source, list.get( target));
 		list.set(target, temp);
+		version++;
 	}
 
 	@Override
@@ -1,27 +1,49 @@
 package mekanism.common;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import mekanism.api.Coord4D;
 import mekanism.api.IHeatTransfer;
 import mekanism.api.transmitters.DynamicNetwork;
 import mekanism.api.transmitters.IGridTransmitter;
+import mekanism.api.util.CapabilityUtils;
 import mekanism.api.util.UnitDisplayUtils.TemperatureUnit;
 import mekanism.common.capabilities.Capabilities;
 import mekanism.common.multipart.MultipartTransmitter;
-//import mekanism.common.multipart.MultipartTransmitter;
+import mekanism.common.multipart.PartSidedPipe;
+import mekanism.common.multipart.PartThermodynamicConductor;
 import mekanism.common.util.MekanismUtils;
+import net.minecraft.tileentity.TileEntity;
+import net.minecraft.util.EnumFacing;
+import net.minecraftforge.common.capabilities.ICapabilityProvider;
 import net.minecraftforge.fml.common.FMLCommonHandler;
 
 import org.apache.commons.lang3.tuple.Pair;
 
+/**
+ * Network of thermodynamic conductors. The conductors are simulated from a packed copy of the network, built whenever its
+ * transmitters or acceptors change: conductor indices, the conductor pairs that exchange heat, and the per-conductor heat
+ * capacity and loss to the air. Heat moves in exactly the same way as through IHeatTransfer.simulateHeat(), but without
+ * looking up neighbours or allocating every tick. Only conductors above ambient temperature or with heat waiting to be
+ * absorbed are kept on an active list and walked each tick, so idle conductors cost nothing.
+ */
 public class HeatNetwork extends DynamicNetwork<IHeatTransfer, HeatNetwork>
 {
 	public double meanTemp = 0;
 
 	public double heatLost = 0;
 	public double heatTransferred = 0;
+	
+	/** Packed copy of the network, or null if it needs to be rebuilt. */
+	private PackedNetwork packed;
+	
+	/** Conductors that were given heat since they were last simulated, to be put on the active list. */
+	private List<PartThermodynamicConductor> heated = new ArrayList<PartThermodynamicConductor>();
 
 	public HeatNetwork() {}
 
@@ -69,6 +91,35 @@ public class HeatNetwork extends DynamicNetwork<IHeatTransfer, HeatNetwork>
 		return null;
 	}
 
+	/**
+	 * Called by a conductor in this network when it is given heat from outside the network's own simulation, so it is
+	 * simulated even if it was idle.
+	 * @param conductor - conductor that was given heat
+	 */
+	public void onHeated(PartThermodynamicConductor conductor)
+	{
+		heated.add(conductor);
+	}
+
+	@Override
+	public void commit()
+	{
+		if(!transmittersToAdd.isEmpty() || !changedAcceptors.isEmpty())
+		{
+			packed = null;
+		}
+		
+		super.commit();
+	}
+	
+	@Override
+	public void split(Collection<IGridTransmitter<IHeatTransfer, HeatNetwork>> changed)
+	{
+		packed = null;
+		
+		super.split(changed);
+	}
+
 	@Override
 	public void onUpdate()
 	{
@@ -80,29 +131,447 @@ public class HeatNetwork extends DynamicNetwork<IHeatTransfer, HeatNetwork>
 
 		if(FMLCommonHandler.instance().getEffectiveSide().isServer())
 		{
-			for(IGridTransmitter<IHeatTransfer, HeatNetwork> transmitter : transmitters)
+			if(packed == null || !packed.isValid(transmitters.size()))
 			{
-				if(transmitter instanceof MultipartTransmitter && ((MultipartTransmitter)transmitter).getPart().hasCapability(Capabilities.HEAT_TRANSFER_CAPABILITY, null))
+				packed = new PackedNetwork(transmitters);
+			}
+			
+			PackedNetwork net = packed;
+			net.activateAll(heated);
+			
+			int count = net.activeCount;
+			
+			for(int k = 0; k < count; k++)
+			{
+				int i = net.active[k];
+				net.temp[i] = net.conductors[i].temperature;
+			}
+			
+			//Conductor pairs that both connect to each other: the two transfers cancel out when their temperatures match.
+			//Idle conductors are at ambient, so a pair is handled from its first end if that was active, else from its second.
+			for(int k = 0; k < count; k++)
+			{
+				int i = net.active[k];
+				
+				for(int e : net.pairsOf[i])
 				{
-					IHeatTransfer heatTransmitter = (IHeatTransfer)((MultipartTransmitter)transmitter).getPart().getCapability(Capabilities.HEAT_TRANSFER_CAPABILITY, null);
-					double[] d = heatTransmitter.simulateHeat();
-					newHeatTransferred += d[0];
-					newHeatLost += d[1];
+					int a = net.pairA[e], b = net.pairB[e];
+					
+					if((a == i || !net.wasActive(a, count)) && net.temp[a] != net.temp[b])
+					{
+						double flow = (net.temp[a]-net.temp[b]) * net.pairConduction[e];
+						net.absorb[a] -= flow;
+						net.absorb[b] += flow;
+						net.activate(a == i ? b : a);
+					}
 				}
 			}
 			
-			for(IGridTransmitter<IHeatTransfer, HeatNetwork> transmitter : transmitters)
+			for(int k = 0; k < count; k++)
 			{
-				if(transmitter instanceof MultipartTransmitter && ((MultipartTransmitter)transmitter).getPart().hasCapability(Capabilities.HEAT_TRANSFER_CAPABILITY, null))
+				int from = net.active[k];
+				
+				if(net.temp[from] != 0)
 				{
-					IHeatTransfer heatTransmitter = (IHeatTransfer)((MultipartTransmitter)transmitter).getPart().getCapability(Capabilities.HEAT_TRANSFER_CAPABILITY, null);
-					newSumTemp += heatTransmitter.applyTemperatureChange();
+					for(int e : net.oneWayOf[from])
+					{
+						double flow = net.temp[from] * net.oneWayConduction[e];
+						net.absorb[from] -= flow;
+						net.absorb[net.oneWayTo[e]] += flow;
+						net.activate(net.oneWayTo[e]);
+					}
+				}
+			}
+			
+			for(int k = 0; k < count; k++)
+			{
+				int i = net.active[k];
+				
+				if(net.temp[i] != 0 && net.airConduction[i] != 0)
+				{
+					double lost = net.temp[i] * net.airConduction[i];
+					net.absorb[i] -= lost;
+					newHeatLost += lost;
 				}
 			}
+			
+			//Foreign acceptors go through the object path, as their coefficients and heat handling are their own
+			for(int k = 0; k < count; k++)
+			{
+				int from = net.active[k];
+				
+				if(net.temp[from] != 0)
+				{
+					for(int f : net.foreignOf[from])
+					{
+						IHeatTransfer sink = net.foreign[f];
+						double heatToTransfer = net.temp[from] / (sink.getInverseConductionCoefficient() + net.conductors[from].getInverseConductionCoefficient());
+						sink.transferHeatTo(heatToTransfer);
+						net.absorb[from] -= heatToTransfer;
+						
+						if(!net.foreignIsTransmitter[f])
+						{
+							newHeatTransferred += heatToTransfer;
+						}
+					}
+				}
+			}
+			
+			for(IHeatTransfer other : net.others)
+			{
+				double[] d = other.simulateHeat();
+				newHeatTransferred += d[0];
+				newHeatLost += d[1];
+			}
+			
+			//Other transmitters may have given heat to idle conductors this tick
+			net.activateAll(heated);
+			
+			for(int k = 0; k < net.activeCount; k++)
+			{
+				int i = net.active[k];
+				PartThermodynamicConductor conductor = net.conductors[i];
+				
+				//Heat from acceptors has been added to heatToAbsorb directly by their own simulation
+				if(net.absorb[i] != 0 || conductor.heatToAbsorb != 0)
+				{
+					conductor.heatToAbsorb += net.absorb[i];
+					conductor.applyTemperatureChange();
+					net.absorb[i] = 0;
+				}
+				
+				newSumTemp += conductor.temperature;
+			}
+			
+			net.removeIdle();
+			
+			for(IHeatTransfer other : net.others)
+			{
+				newSumTemp += other.applyTemperatureChange();
+			}
 		}
 		
 		heatLost = newHeatLost;
 		heatTransferred = newHeatTransferred;
 		meanTemp = newSumTemp / transmitters.size();
 	}
+	
+	private static class PackedNetwork
+	{
+		public PartThermodynamicConductor[] conductors;
+		
+		public double[] temp;
+		public double[] absorb;
+		
+		/** Indices of the conductors that are above ambient temperature or have heat to absorb, in no particular order. */
+		public int[] active;
+		public int activeCount;
+		public boolean[] isActive;
+		
+		/** Position of each active conductor in the active list. */
+		private int[] slot;
+		
+		/** Conductance to the air through all of a conductor's unconnected sides. */
+		public double[] airConduction;
+		
+		/** Conductor pairs connected both ways, each stored once. */
+		public int[] pairA;
+		public int[] pairB;
+		public double[] pairConduction;
+		
+		/** Conductor connections that only go one way. */
+		public int[] oneWayFrom;
+		public int[] oneWayTo;
+		public double[] oneWayConduction;
+		
+		/** Heat acceptors that aren't conductors in this network, with the conductor that feeds each of them. */
+		public IHeatTransfer[] foreign;
+		public TileEntity[] foreignTiles;
+		public int[] foreignFrom;
+		public boolean[] foreignIsTransmitter;
+		
+		/** Per conductor, the pairs it is in, the one-way connections it feeds and the foreign acceptors it feeds. */
+		public int[][] pairsOf;
+		public int[][] oneWayOf;
+		public int[][] foreignOf;
+		
+		/** Heat transmitters that aren't thermodynamic conductors, which are simulated through IHeatTransfer. */
+		public List<IHeatTransfer> others = new ArrayList<IHeatTransfer>();
+		
+		private Map<PartThermodynamicConductor, Integer> indices = new HashMap<PartThermodynamicConductor, Integer>();
+		
+		private int transmitterCount;
+		
+		public PackedNetwork(Collection<IGridTransmitter<IHeatTransfer, HeatNetwork>> transmitters)
+		{
+			transmitterCount = transmitters.size();
+			
+			List<PartThermodynamicConductor> conductorList = new ArrayList<PartThermodynamicConductor>();
+			
+			for(IGridTransmitter<IHeatTransfer, HeatNetwork> transmitter : transmitters)
+			{
+				if(transmitter instanceof MultipartTransmitter && ((MultipartTransmitter)transmitter).getPart().hasCapability(Capabilities.HEAT_TRANSFER_CAPABILITY, null))
+				{
+					IHeatTransfer heatTransmitter = (IHeatTransfer)((MultipartTransmitter)transmitter).getPart().getCapability(Capabilities.HEAT_TRANSFER_CAPABILITY, null);
+					
+					if(heatTransmitter instanceof PartThermodynamicConductor)
+					{
+						indices.put((PartThermodynamicConductor)heatTransmitter, conductorList.size());
+						conductorList.add((PartThermodynamicConductor)heatTransmitter);
+					}
+					else {
+						others.add(heatTransmitter);
+					}
+				}
+			}
+			
+			int count = conductorList.size();
+			
+			conductors = conductorList.toArray(new PartThermodynamicConductor[count]);
+			temp = new double[count];
+			absorb = new double[count];
+			airConduction = new double[count];
+			active = new int[count];
+			isActive = new boolean[count];
+			slot = new int[count];
+			
+			for(int i = 0; i < count; i++)
+			{
+				if(conductors[i].temperature != 0 || conductors[i].heatToAbsorb != 0)
+				{
+					activate(i);
+				}
+			}
+			
+			IHeatTransfer[][] adjacent = new IHeatTransfer[count][];
+			
+			for(int i = 0; i < count; i++)
+			{
+				adjacent[i] = getAdjacent(conductors[i]);
+			}
+			
+			List<int[]> pairs = new ArrayList<int[]>();
+			List<int[]> oneWay = new ArrayList<int[]>();
+			List<Object[]> foreignList = new ArrayList<Object[]>();
+			
+			for(int i = 0; i < count; i++)
+			{
+				PartThermodynamicConductor source = conductors[i];
+				
+				for(EnumFacing side : EnumFacing.VALUES)
+				{
+					IHeatTransfer sink = adjacent[i][side.ordinal()];
+					
+					if(sink == null)
+					{
+						airConduction[i] += 1 / (IHeatTransfer.AIR_INVERSE_COEFFICIENT + source.getInsulationCoefficient(side) + source.getInverseConductionCoefficient());
+					}
+					else if(sink instanceof PartThermodynamicConductor && indices.containsKey(sink))
+					{
+						int j = indices.get(sink);
+						boolean mutual = adjacent[j][side.getOpposite().ordinal()] == source;
+						
+						if(!mutual)
+						{
+							oneWay.add(new int[] {i, j});
+						}
+						else if(i < j)
+						{
+							pairs.add(new int[] {i, j});
+						}
+					}
+					else {
+						TileEntity tile = source.getWorld().getTileEntity(source.getPos().offset(side));
+						boolean isTransmitter = sink instanceof ICapabilityProvider && CapabilityUtils.hasCapability((ICapabilityProvider)sink, Capabilities.GRID_TRANSMITTER_CAPABILITY, side.getOpposite());
+						
+						foreignList.add(new Object[] {sink, tile, i, isTransmitter});
+					}
+				}
+			}
+			
+			pairA = new int[pairs.size()];
+			pairB = new int[pairs.size()];
+			pairConduction = new double[pairs.size()];
+			
+			for(int e = 0; e < pairs.size(); e++)
+			{
+				pairA[e] = pairs.get(e)[0];
+				pairB[e] = pairs.get(e)[1];
+				pairConduction[e] = 1 / (conductors[pairA[e]].getInverseConductionCoefficient() + conductors[pairB[e]].getInverseConductionCoefficient());
+			}
+			
+			oneWayFrom = new int[oneWay.size()];
+			oneWayTo = new int[oneWay.size()];
+			oneWayConduction = new double[oneWay.size()];
+			
+			for(int e = 0; e < oneWay.size(); e++)
+			{
+				oneWayFrom[e] = oneWay.get(e)[0];
+				oneWayTo[e] = oneWay.get(e)[1];
+				oneWayConduction[e] = 1 / (conductors[oneWayFrom[e]].getInverseConductionCoefficient() + conductors[oneWayTo[e]].getInverseConductionCoefficient());
+			}
+			
+			foreign = new IHeatTransfer[foreignList.size()];
+			foreignTiles = new TileEntity[foreignList.size()];
+			foreignFrom = new int[foreignList.size()];
+			foreignIsTransmitter = new boolean[foreignList.size()];
+			
+			for(int f = 0; f < foreignList.size(); f++)
+			{
+				Object[] entry = foreignList.get(f);
+				
+				foreign[f] = (IHeatTransfer)entry[0];
+				foreignTiles[f] = (TileEntity)entry[1];
+				foreignFrom[f] = (Integer)entry[2];
+				foreignIsTransmitter[f] = (Boolean)entry[3];
+			}
+			
+			pairsOf = getEdges(count, pairA, pairB);
+			oneWayOf = getEdges(count, oneWayFrom, null);
+			foreignOf = getEdges(count, foreignFrom, null);
+		}
+		
+		public void activate(int i)
+		{
+			if(!isActive[i])
+			{
+				isActive[i] = true;
+				slot[i] = activeCount;
+				active[activeCount++] = i;
+			}
+		}
+		
+		/**
+		 * Whether a conductor was among the first conductors on the active list, rather than activated since.
+		 * @param i - conductor index
+		 * @param count - how many conductors were on the active list
+		 */
+		public boolean wasActive(int i, int count)
+		{
+			return isActive[i] && slot[i] < count;
+		}
+		
+		/**
+		 * Puts conductors that have been given heat on the active list, and clears the list passed in.
+		 * @param heated - conductors to activate, which may not all be in this network
+		 */
+		public void activateAll(List<PartThermodynamicConductor> heated)
+		{
+			for(PartThermodynamicConductor conductor : heated)
+			{
+				Integer i = indices.get(conductor);
+				
+				if(i != null)
+				{
+					activate(i);
+				}
+			}
+			
+			heated.clear();
+		}
+		
+		/**
+		 * Drops conductors that are back at ambient temperature from the active list.
+		 */
+		public void removeIdle()
+		{
+			int kept = 0;
+			
+			for(int k = 0; k < activeCount; k++)
+			{
+				int i = active[k];
+				
+				if(conductors[i].temperature != 0 || conductors[i].heatToAbsorb != 0)
+				{
+					slot[i] = kept;
+					active[kept++] = i;
+				}
+				else {
+					isActive[i] = false;
+					temp[i] = 0;
+				}
+			}
+			
+			activeCount = kept;
+		}
+		
+		/**
+		 * Groups edges by the conductors at their ends.
+		 * @param count - number of conductors
+		 * @param ends - first end of each edge
+		 * @param otherEnds - second end of each edge, or null to only group by the first
+		 * @return for each conductor, the indices of its edges
+		 */
+		private static int[][] getEdges(int count, int[] ends, int[] otherEnds)
+		{
+			int[] sizes = new int[count];
+			
+			for(int e = 0; e < ends.length; e++)
+			{
+				sizes[ends[e]]++;
+				
+				if(otherEnds != null)
+				{
+					sizes[otherEnds[e]]++;
+				}
+			}
+			
+			int[][] ret = new int[count][];
+			
+			for(int i = 0; i < count; i++)
+			{
+				ret[i] = new int[sizes[i]];
+				sizes[i] = 0;
+			}
+			
+			for(int e = 0; e < ends.length; e++)
+			{
+				ret[ends[e]][sizes[ends[e]]++] = e;
+				
+				if(otherEnds != null)
+				{
+					ret[otherEnds[e]][sizes[otherEnds[e]]++] = e;
+				}
+			}
+			
+			return ret;
+		}
+		
+		private static IHeatTransfer[] getAdjacent(PartThermodynamicConductor conductor)
+		{
+			IHeatTransfer[] ret = new IHeatTransfer[EnumFacing.VALUES.length];
+			
+			for(EnumFacing side : EnumFacing.VALUES)
+			{
+				if(PartSidedPipe.connectionMapContainsSide(conductor.getAllCurrentConnections(), side))
+				{
+					ret[side.ordinal()] = conductor.getAdjacent(side);
+				}
+			}
+			
+			return ret;
+		}
+		
+		/**
+		 * Whether this copy still matches the network. Changes to the network's transmitters and acceptors already clear
+		 * it, so this only catches acceptors that have since been removed from the world.
+		 */
+		public boolean isValid(int size)
+		{
+			if(size != transmitterCount)
+			{
+				return false;
+			}
+			
+			for(TileEntity tile : foreignTiles)
+			{
+				if(tile != null && tile.isInvalid())
+				{
+					return false;
+				}
+			}
+			
+			return true;
+		}
+	}
 }
@@ -4,14 +4,20 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.EnumSet;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import mekanism.api.Coord4D;
 import mekanism.api.EnumColor;
+import mekanism.api.MekanismConfig.general;
 import mekanism.api.transmitters.DynamicNetwork;
 import mekanism.api.transmitters.IGridTransmitter;
+import mekanism.common.base.ILogisticalTransporter;
 import mekanism.common.content.transporter.TransporterManager;
+import mekanism.common.content.transporter.TransporterPathfinder.PathTree;
+import mekanism.common.content.transporter.TransporterStack;
 import net.minecraft.inventory.IInventory;
 import net.minecraft.item.ItemStack;
 import net.minecraft.tileentity.TileEntity;
@@ -22,6 +28,20 @@ import org.apache.commons.lang3.tuple.Pair;
 
 public class InventoryNetwork extends DynamicNetwork<IInventory, InventoryNetwork>
 {
+	/** Most path trees a network keeps at once; the least recently used is dropped first. */
+	public static final int MAX_PATH_TREES = 256;
+	
+	/** Path trees by start transporter and color, kept until the network's transporters change. */
+	private Map<Pair<Coord4D, EnumColor>, PathTree> pathTrees = new LinkedHashMap<Pair<Coord4D, EnumColor>, PathTree>(16, 0.75F, true) {
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<Pair<Coord4D, EnumColor>, PathTree> eldest)
+		{
+			return size() > MAX_PATH_TREES;
+		}
+	};
+	
+	private int pathBudget = general.maxTransporterPathsPerTick;
+
 	public InventoryNetwork() {}
 
 	public InventoryNetwork(Collection<InventoryNetwork> networks)
@@ -84,6 +104,38 @@ public class InventoryNetwork extends DynamicNetwork<IInventory, InventoryNetwor
 		return toReturn;
 	}
 	
+	/**
+	 * Gets the path tree for stacks of a color leaving a transporter. Trees are shared by every stack that leaves the same
+	 * transporter, and kept until the network's transporters change or a path from the tree turns out to be broken. Only
+	 * a limited number of new trees are built per tick; once that is used up this returns null and the stack has to make
+	 * do with cached paths or go idle until a later tick.
+	 */
+	public PathTree getPathTree(ILogisticalTransporter start, TransporterStack stack)
+	{
+		Pair<Coord4D, EnumColor> key = Pair.of(start.coord(), stack.color);
+		PathTree tree = pathTrees.get(key);
+		
+		if(tree != null && tree.isStale())
+		{
+			pathTrees.remove(key);
+			tree = null;
+		}
+		
+		if(tree == null)
+		{
+			if(pathBudget <= 0)
+			{
+				return null;
+			}
+			
+			pathBudget--;
+			tree = new PathTree(start.world(), key.getLeft(), stack);
+			pathTrees.put(key, tree);
+		}
+		
+		return tree;
+	}
+	
 	public static class AcceptorData
 	{
 		public Coord4D location;
@@ -105,8 +157,35 @@ public class InventoryNetwork extends DynamicNetwork<IInventory, InventoryNetwor
 
 		if(FMLCommonHandler.instance().getEffectiveSide().isServer())
 		{
-			//Future!
+			pathBudget = general.maxTransporterPathsPerTick;
+		}
+	}
+	
+	/**
+	 * Drops every path tree, for when a transporter in this network changes in a way that may change its routes.
+	 */
+	public void clearPathTrees()
+	{
+		pathTrees.clear();
+	}
+	
+	@Override
+	public void commit()
+	{
+		if(!transmittersToAdd.isEmpty())
+		{
+			pathTrees.clear();
 		}
+		
+		super.commit();
+	}
+	
+	@Override
+	public void split(Collection<IGridTransmitter<IInventory, InventoryNetwork>> changed)
+	{
+		pathTrees.clear();
+		
+		super.split(changed);
 	}
 
 	@Override
@@ -11,6 +11,7 @@ import java.util.Set;
 import java.util.UUID;
 
 import mcmultipart.MCMultiPartMod;
+import mekanism.api.Chunk3D;
 import mekanism.api.Coord4D;
 import mekanism.api.EnumColor;
 import mekanism.api.MekanismAPI;
@@ -123,6 +124,7 @@ import net.minecraftforge.common.MinecraftForge;
 import net.minecraftforge.common.config.Configuration;
 import net.minecraftforge.event.world.ChunkDataEvent;
 import net.minecraftforge.event.world.ChunkEvent;
+import net.minecraftforge.event.world.WorldEvent;
 import net.minecraftforge.fluids.FluidRegistry;
 import net.minecraftforge.fluids.FluidStack;
 import net.minecraftforge.fml.client.event.ConfigChangedEvent;
@@ -1226,7 +1228,7 @@ public class Mekanism
 		}
 		
 		//Load cached furnace recipes
-		Recipe.ENERGIZED_SMELTER.get().clear();
+		Recipe.ENERGIZED_SMELTER.clear();
 		
 		for(Object obj : FurnaceRecipes.instance().getSmeltingList().entrySet())
 		{
@@ -1260,6 +1262,7 @@ public class Mekanism
 		TransporterManager.reset();
 		PathfinderCache.reset();
 		TransmitterNetworkRegistry.reset();
+		packetHandler.playerIndex.reset();
 	}
 	
 	@EventHandler
@@ -1519,6 +1522,31 @@ public class Mekanism
 		}
 	}
 	
+	@SubscribeEvent
+	public void onOreRegister(OreDictionary.OreRegisterEvent event)
+	{
+		OreDictCache.invalidate();
+	}
+	
+	@SubscribeEvent
+	public void onChunkUnload(ChunkEvent.Unload event)
+	{
+		if(event.getChunk() != null && !event.getWorld().isRemote)
+		{
+			MultiblockManager.onChunkUnload(new Chunk3D(event.getChunk().xPosition, event.getChunk().zPosition, event.getWorld().provider.getDimension()));
+		}
+	}
+	
+	@SubscribeEvent
+	public void onWorldUnload(WorldEvent.Unload event)
+	{
+		if(!event.getWorld().isRemote)
+		{
+			PathfinderCache.onDimensionUnload(event.getWorld().provider.getDimension());
+			MultiblockManager.onDimensionUnload(event.getWorld().provider.getDimension());
+		}
+	}
+	
 	@SubscribeEvent
 	public void chunkSave(ChunkDataEvent.Save event) 
 	{
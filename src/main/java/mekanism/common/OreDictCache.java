@@ -1,8 +1,12 @@
 package mekanism.common;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 import mekanism.api.util.ItemInfo;
 import mekanism.common.util.ItemRegistryUtils;
@@ -10,11 +14,21 @@ import net.minecraft.item.ItemBlock;
 import net.minecraft.item.ItemStack;
 import net.minecraftforge.oredict.OreDictionary;
 
+/**
+ * Caches ore dictionary lookups for filters. The caches are bounded and safe to use from the Digital Miner's search thread
+ * as well as the server thread, and are cleared whenever an ore is registered. Wildcard names such as "ore*" and "*Copper"
+ * are looked up in sorted indexes of the ore names and their reverses, instead of checking every ore name.
+ */
 public final class OreDictCache
 {
-	public static HashMap<ItemInfo, List<String>> cachedKeys = new HashMap<ItemInfo, List<String>>();
-	public static HashMap<String, List<ItemStack>> oreDictStacks = new HashMap<String, List<ItemStack>>();
-	public static HashMap<String, List<ItemStack>> modIDStacks = new HashMap<String, List<ItemStack>>();
+	public static final int MAX_CACHED_KEYS = 4096;
+	public static final int MAX_CACHED_STACKS = 256;
+
+	public static Map<ItemInfo, List<String>> cachedKeys = createCache(MAX_CACHED_KEYS);
+	public static Map<String, List<ItemStack>> oreDictStacks = createCache(MAX_CACHED_STACKS);
+	public static Map<String, List<ItemStack>> modIDStacks = createCache(MAX_CACHED_STACKS);
+
+	private static volatile NameIndex nameIndex;
 
 	public static List<String> getOreDictName(ItemStack check)
 	{
@@ -44,119 +58,252 @@ public final class OreDictCache
 
 		return ret;
 	}
-	
+
 	public static List<ItemStack> getOreDictStacks(String oreName, boolean forceBlock)
 	{
-		if(oreDictStacks.get(oreName) != null)
+		String cacheKey = forceBlock + ":" + oreName;
+		List<ItemStack> cached = oreDictStacks.get(cacheKey);
+
+		if(cached != null)
 		{
-			return oreDictStacks.get(oreName);
+			return cached;
 		}
 
-		List<String> keys = new ArrayList<String>();
+		List<ItemStack> stacks = new ArrayList<ItemStack>();
 
-		for(String s : OreDictionary.getOreNames())
+		for(String key : getNameIndex().getMatches(oreName))
 		{
-			if(s == null)
-			{
-				continue;
-			}
-			
-			if(oreName.equals(s) || oreName.equals("*"))
-			{
-				keys.add(s);
-			}
-			else if(oreName.endsWith("*") && !oreName.startsWith("*"))
-			{
-				if(s.startsWith(oreName.substring(0, oreName.length()-1)))
-				{
-					keys.add(s);
-				}
-			}
-			else if(oreName.startsWith("*") && !oreName.endsWith("*"))
-			{
-				if(s.endsWith(oreName.substring(1)))
-				{
-					keys.add(s);
-				}
-			}
-			else if(oreName.startsWith("*") && oreName.endsWith("*"))
+			for(ItemStack stack : OreDictionary.getOres(key))
 			{
-				if(s.contains(oreName.substring(1, oreName.length()-1)))
+				if(!stacks.contains(stack) && (!forceBlock || stack.getItem() instanceof ItemBlock))
 				{
-					keys.add(s);
+					stacks.add(stack.copy());
 				}
 			}
 		}
-		
+
+		oreDictStacks.put(cacheKey, stacks);
+
+		return stacks;
+	}
+
+	public static List<ItemStack> getModIDStacks(String modName, boolean forceBlock)
+	{
+		List<ItemStack> cached = modIDStacks.get(modName);
+
+		if(cached != null)
+		{
+			return cached;
+		}
+
 		List<ItemStack> stacks = new ArrayList<ItemStack>();
 
-		for(String key : keys)
+		for(Map.Entry<String, List<ItemStack>> entry : getNameIndex().modBlocks.entrySet())
 		{
-			for(ItemStack stack : OreDictionary.getOres(key))
+			if(matches(modName, entry.getKey()))
 			{
-				ItemStack toAdd = stack.copy();
-
-				if(!stacks.contains(stack) && (!forceBlock || toAdd.getItem() instanceof ItemBlock))
+				for(ItemStack stack : entry.getValue())
 				{
-					stacks.add(stack.copy());
+					if(!stacks.contains(stack))
+					{
+						stacks.add(stack.copy());
+					}
 				}
 			}
 		}
-		
-		oreDictStacks.put(oreName, stacks);
-		
+
+		modIDStacks.put(modName, stacks);
+
 		return stacks;
 	}
-	
-	public static List<ItemStack> getModIDStacks(String modName, boolean forceBlock)
+
+	/**
+	 * Clears every cache, used when an ore is registered.
+	 */
+	public static synchronized void invalidate()
+	{
+		nameIndex = null;
+
+		cachedKeys.clear();
+		oreDictStacks.clear();
+		modIDStacks.clear();
+	}
+
+	/**
+	 * Whether a name matches a filter, which may start and/or end with a "*" wildcard.
+	 * @param filter - filter to match
+	 * @param name - name to check
+	 * @return if the name matches
+	 */
+	public static boolean matches(String filter, String name)
 	{
-		if(modIDStacks.get(modName) != null)
+		if(filter.equals(name) || filter.equals("*"))
 		{
-			return modIDStacks.get(modName);
+			return true;
 		}
-		
-		List<ItemStack> stacks = new ArrayList<ItemStack>();
+		else if(filter.endsWith("*") && !filter.startsWith("*"))
+		{
+			return name.startsWith(filter.substring(0, filter.length()-1));
+		}
+		else if(filter.startsWith("*") && !filter.endsWith("*"))
+		{
+			return name.endsWith(filter.substring(1));
+		}
+		else if(filter.startsWith("*") && filter.endsWith("*"))
+		{
+			return name.contains(filter.substring(1, filter.length()-1));
+		}
+
+		return false;
+	}
 
-		for(String key : OreDictionary.getOreNames())
+	private static NameIndex getNameIndex()
+	{
+		NameIndex index = nameIndex;
+
+		if(index != null)
 		{
-			for(ItemStack stack : OreDictionary.getOres(key))
+			return index;
+		}
+
+		synchronized(OreDictCache.class)
+		{
+			if(nameIndex == null)
+			{
+				nameIndex = new NameIndex(OreDictionary.getOreNames());
+			}
+
+			return nameIndex;
+		}
+	}
+
+	private static <K, V> Map<K, V> createCache(final int maxSize)
+	{
+		return Collections.synchronizedMap(new LinkedHashMap<K, V>(64, 0.75F, true) {
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<K, V> eldest)
 			{
-				ItemStack toAdd = stack.copy();
-				String s = ItemRegistryUtils.getMod(toAdd);
+				return size() > maxSize;
+			}
+		});
+	}
 
-				if(!stacks.contains(stack) && toAdd.getItem() instanceof ItemBlock)
+	private static String reverse(String s)
+	{
+		return new StringBuilder(s).reverse().toString();
+	}
+
+	/**
+	 * The ore names sorted, both as they are and reversed, so names with a given prefix or suffix are a contiguous range
+	 * that can be found with a binary search. Also holds the ore dictionary's blocks by the mod that adds them.
+	 */
+	private static class NameIndex
+	{
+		public String[] names;
+		public String[] reversedNames;
+
+		public Map<String, List<ItemStack>> modBlocks = new HashMap<String, List<ItemStack>>();
+
+		public NameIndex(String[] oreNames)
+		{
+			List<String> list = new ArrayList<String>();
+
+			for(String name : oreNames)
+			{
+				if(name != null)
 				{
-					if(modName.equals(s) || modName.equals("*"))
-					{
-						stacks.add(stack.copy());
-					}
-					else if(modName.endsWith("*") && !modName.startsWith("*"))
+					list.add(name);
+				}
+			}
+
+			names = list.toArray(new String[list.size()]);
+			reversedNames = new String[names.length];
+
+			for(int i = 0; i < names.length; i++)
+			{
+				reversedNames[i] = reverse(names[i]);
+			}
+
+			Arrays.sort(names);
+			Arrays.sort(reversedNames);
+
+			for(String name : names)
+			{
+				for(ItemStack stack : OreDictionary.getOres(name))
+				{
+					if(stack.getItem() instanceof ItemBlock)
 					{
-						if(s.startsWith(modName.substring(0, modName.length()-1)))
+						String mod = ItemRegistryUtils.getMod(stack);
+
+						if(mod == null)
 						{
-							stacks.add(stack.copy());
+							continue;
 						}
-					}
-					else if(modName.startsWith("*") && !modName.endsWith("*"))
-					{
-						if(s.endsWith(modName.substring(1)))
+
+						List<ItemStack> blocks = modBlocks.get(mod);
+
+						if(blocks == null)
 						{
-							stacks.add(stack.copy());
+							blocks = new ArrayList<ItemStack>();
+							modBlocks.put(mod, blocks);
 						}
+
+						blocks.add(stack);
 					}
-					else if(modName.startsWith("*") && modName.endsWith("*"))
+				}
+			}
+		}
+
+		public List<String> getMatches(String filter)
+		{
+			List<String> ret = new ArrayList<String>();
+
+			if(filter.equals("*"))
+			{
+				ret.addAll(Arrays.asList(names));
+			}
+			else if(filter.startsWith("*") && filter.endsWith("*"))
+			{
+				//No index can help with a substring, so every name is checked
+				String part = filter.substring(1, filter.length()-1);
+
+				for(String name : names)
+				{
+					if(name.contains(part))
 					{
-						if(s.contains(modName.substring(1, modName.length()-1)))
-						{
-							stacks.add(stack.copy());
-						}
+						ret.add(name);
 					}
 				}
 			}
+			else if(filter.endsWith("*"))
+			{
+				addRange(ret, names, filter.substring(0, filter.length()-1), false);
+			}
+			else if(filter.startsWith("*"))
+			{
+				addRange(ret, reversedNames, reverse(filter.substring(1)), true);
+			}
+			else if(Arrays.binarySearch(names, filter) >= 0)
+			{
+				ret.add(filter);
+			}
+
+			return ret;
+		}
+
+		private static void addRange(List<String> ret, String[] sorted, String prefix, boolean reversed)
+		{
+			int start = Arrays.binarySearch(sorted, prefix);
+
+			if(start < 0)
+			{
+				start = -start-1;
+			}
+
+			for(int i = start; i < sorted.length && sorted[i].startsWith(prefix); i++)
+			{
+				ret.add(reversed ? reverse(sorted[i]) : sorted[i]);
+			}
 		}
-		
-		modIDStacks.put(modName, stacks);
-		
-		return stacks;
 	}
 }
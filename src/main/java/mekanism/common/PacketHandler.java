@@ -4,7 +4,6 @@ import io.netty.buffer.ByteBuf;
 
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.List;
 
 import mekanism.api.MekanismConfig.general;
 import mekanism.api.Range4D;
@@ -77,7 +76,6 @@ import net.minecraft.nbt.NBTTagCompound;
 import net.minecraft.server.MinecraftServer;
 import net.minecraft.util.EnumFacing;
 import net.minecraft.util.math.AxisAlignedBB;
-import net.minecraft.util.math.Vec3d;
 import net.minecraftforge.fml.common.FMLCommonHandler;
 import net.minecraftforge.fml.common.network.ByteBufUtils;
 import net.minecraftforge.fml.common.network.NetworkRegistry;
@@ -95,6 +93,8 @@ public class PacketHandler
 {
 	public SimpleNetworkWrapper netHandler = NetworkRegistry.INSTANCE.newSimpleChannel("MEK");
 	
+	public PlayerChunkIndex playerIndex = new PlayerChunkIndex();
+	
 	public void initialize()
 	{
 		netHandler.registerMessage(PacketRobit.class, RobitMessage.class, 0, Side.SERVER);
@@ -222,6 +222,81 @@ public class PacketHandler
 		}
 	}
 	
+	/**
+	 * Writes an int in as few bytes as it needs, seven bits at a time. Values that may be negative should use
+	 * writeSignedVarInt() instead, as a negative int always takes five bytes here.
+	 * @param output - the buffer to write to
+	 * @param value - the value to write
+	 */
+	public static void writeVarInt(ByteBuf output, int value)
+	{
+		while((value & ~0x7F) != 0)
+		{
+			output.writeByte((value & 0x7F) | 0x80);
+			value >>>= 7;
+		}
+
+		output.writeByte(value);
+	}
+
+	public static int readVarInt(ByteBuf input)
+	{
+		int value = 0;
+
+		for(int shift = 0; shift < 35; shift += 7)
+		{
+			byte b = input.readByte();
+			value |= (b & 0x7F) << shift;
+
+			if((b & 0x80) == 0)
+			{
+				return value;
+			}
+		}
+
+		throw new RuntimeException("VarInt too big");
+	}
+
+	/**
+	 * Writes an int that may be negative as a zig-zag encoded VarInt, so small values of either sign stay small.
+	 * @param output - the buffer to write to
+	 * @param value - the value to write
+	 */
+	public static void writeSignedVarInt(ByteBuf output, int value)
+	{
+		writeVarInt(output, (value << 1) ^ (value >> 31));
+	}
+
+	public static int readSignedVarInt(ByteBuf input)
+	{
+		int value = readVarInt(input);
+
+		return (value >>> 1) ^ -(value & 1);
+	}
+
+	/**
+	 * Writes an enum constant as a single byte, or -1 for null. Only for enums with fewer than 128 constants.
+	 * @param output - the buffer to write to
+	 * @param value - the constant to write
+	 */
+	public static void writeEnum(ByteBuf output, Enum<?> value)
+	{
+		output.writeByte(value == null ? -1 : value.ordinal());
+	}
+
+	/**
+	 * Reads an enum constant written by writeEnum().
+	 * @param input - the buffer to read from
+	 * @param values - the enum's constants, passed in so they aren't copied with values() on every read
+	 * @return the constant, or null
+	 */
+	public static <E extends Enum<E>> E readEnum(ByteBuf input, E[] values)
+	{
+		byte ordinal = input.readByte();
+
+		return ordinal < 0 ? null : values[ordinal];
+	}
+
 	public static void writeString(ByteBuf output, String s)
 	{
 		ByteBufUtils.writeUTF8String(output, s);
@@ -332,13 +407,11 @@ public class PacketHandler
 	 */
 	public void sendToCuboid(IMessage message, AxisAlignedBB cuboid, int dimId)
 	{
-		MinecraftServer server = FMLCommonHandler.instance().getMinecraftServerInstance();
-
-		if(server != null && cuboid != null)
+		if(cuboid != null)
 		{
-			for(EntityPlayerMP player : (List<EntityPlayerMP>)server.getPlayerList().getPlayerList())
+			for(EntityPlayerMP player : playerIndex.getOccupants(cuboid, dimId))
 			{
-				if(player.dimension == dimId && cuboid.isVecInside(new Vec3d(player.posX, player.posY, player.posZ)))
+				if(player.dimension == dimId && player.posX > cuboid.minX && player.posX < cuboid.maxX && player.posY > cuboid.minY && player.posY < cuboid.maxY && player.posZ > cuboid.minZ && player.posZ < cuboid.maxZ)
 				{
 					sendTo(message, player);
 				}
@@ -346,18 +419,18 @@ public class PacketHandler
 		}
 	}
 	
+	/**
+	 * Send this message to all players that have any part of a range within their view distance.
+	 * @param message - the message to send
+	 * @param range - the range the message is about
+	 */
 	public void sendToReceivers(IMessage message, Range4D range)
 	{
-		MinecraftServer server = FMLCommonHandler.instance().getMinecraftServerInstance();
-
-		if(server != null)
+		for(EntityPlayerMP player : playerIndex.getWatchers(range))
 		{
-			for(EntityPlayerMP player : (List<EntityPlayerMP>)server.getPlayerList().getPlayerList())
+			if(player.dimension == range.dimensionId)
 			{
-				if(player.dimension == range.dimensionId && Range4D.getChunkRange(player).intersects(range))
-				{
-					sendTo(message, player);
-				}
+				sendTo(message, player);
 			}
 		}
 	}
@@ -0,0 +1,269 @@
+package mekanism.common;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import mekanism.api.Range4D;
+import net.minecraft.entity.player.EntityPlayerMP;
+import net.minecraft.util.math.AxisAlignedBB;
+import net.minecraft.util.math.MathHelper;
+
+/**
+ * Index of online players by chunk, per dimension, so packets for a location can be sent to just the players near it
+ * without checking every player on the server. Players are indexed both by the chunks within their view distance, and by
+ * the chunk they are in. Players are indexed as soon as they log in or change dimension, and entries are refreshed from
+ * the player tick handler, which only does any work when a player has moved into another chunk or respawned.
+ */
+public class PlayerChunkIndex
+{
+	private Map<UUID, Entry> entries = new HashMap<UUID, Entry>();
+
+	/** Players by the chunks within their view distance. */
+	private Map<Integer, Map<Long, Set<EntityPlayerMP>>> watchers = new HashMap<Integer, Map<Long, Set<EntityPlayerMP>>>();
+
+	/** Players by the chunk they are in. */
+	private Map<Integer, Map<Long, Set<EntityPlayerMP>>> occupants = new HashMap<Integer, Map<Long, Set<EntityPlayerMP>>>();
+
+	/**
+	 * Moves a player's entries using the server's current view distance.
+	 * @param player - player to update
+	 */
+	public void update(EntityPlayerMP player)
+	{
+		update(player, player.mcServer.getPlayerList().getViewDistance());
+	}
+
+	/**
+	 * Moves a player's entries if they have moved into another chunk, changed dimension or respawned.
+	 * @param player - player to update
+	 * @param radius - the server's view distance, in chunks
+	 */
+	public void update(EntityPlayerMP player, int radius)
+	{
+		int chunkX = MathHelper.floor_double(player.posX) >> 4;
+		int chunkZ = MathHelper.floor_double(player.posZ) >> 4;
+
+		Entry prev = entries.get(player.getUniqueID());
+
+		if(prev != null && prev.player == player && prev.dimension == player.dimension && prev.chunkX == chunkX && prev.chunkZ == chunkZ && prev.radius == radius)
+		{
+			return;
+		}
+
+		Entry entry = new Entry(player, player.dimension, chunkX, chunkZ, radius);
+
+		if(prev != null && (prev.player != player || prev.dimension != entry.dimension))
+		{
+			remove(prev);
+			prev = null;
+		}
+
+		//Only the chunks that left or entered the player's view distance need to change
+		if(prev != null)
+		{
+			getSet(occupants, prev.dimension, prev.chunkX, prev.chunkZ).remove(player);
+			cleanup(occupants, prev.dimension, prev.chunkX, prev.chunkZ);
+		}
+
+		for(int x = entry.chunkX-radius; x <= entry.chunkX+radius; x++)
+		{
+			for(int z = entry.chunkZ-radius; z <= entry.chunkZ+radius; z++)
+			{
+				if(prev == null || !prev.watches(x, z))
+				{
+					getSet(watchers, entry.dimension, x, z).add(player);
+				}
+			}
+		}
+
+		if(prev != null)
+		{
+			for(int x = prev.chunkX-prev.radius; x <= prev.chunkX+prev.radius; x++)
+			{
+				for(int z = prev.chunkZ-prev.radius; z <= prev.chunkZ+prev.radius; z++)
+				{
+					if(!entry.watches(x, z))
+					{
+						getSet(watchers, prev.dimension, x, z).remove(player);
+						cleanup(watchers, prev.dimension, x, z);
+					}
+				}
+			}
+		}
+
+		getSet(occupants, entry.dimension, chunkX, chunkZ).add(player);
+		entries.put(player.getUniqueID(), entry);
+	}
+
+	/**
+	 * Removes a player from the index, used when they log out.
+	 * @param player - player to remove
+	 */
+	public void remove(EntityPlayerMP player)
+	{
+		Entry entry = entries.get(player.getUniqueID());
+
+		if(entry != null)
+		{
+			remove(entry);
+		}
+	}
+
+	/**
+	 * Gets the players that have any part of a range within their view distance.
+	 * @param range - range to check
+	 * @return the players watching the range; the returned collection must not be modified
+	 */
+	public Collection<EntityPlayerMP> getWatchers(Range4D range)
+	{
+		return collect(watchers, range.dimensionId, range.xMin >> 4, range.zMin >> 4, range.xMax-1 >> 4, range.zMax-1 >> 4);
+	}
+
+	/**
+	 * Gets the players in the chunks a cuboid overlaps. Their positions still need to be checked against the cuboid itself.
+	 * @param cuboid - cuboid to check
+	 * @param dimensionId - dimension the cuboid is in
+	 * @return the players near the cuboid; the returned collection must not be modified
+	 */
+	public Collection<EntityPlayerMP> getOccupants(AxisAlignedBB cuboid, int dimensionId)
+	{
+		return collect(occupants, dimensionId, MathHelper.floor_double(cuboid.minX) >> 4, MathHelper.floor_double(cuboid.minZ) >> 4,
+				MathHelper.floor_double(cuboid.maxX) >> 4, MathHelper.floor_double(cuboid.maxZ) >> 4);
+	}
+
+	public void reset()
+	{
+		entries.clear();
+		watchers.clear();
+		occupants.clear();
+	}
+
+	private void remove(Entry entry)
+	{
+		for(int x = entry.chunkX-entry.radius; x <= entry.chunkX+entry.radius; x++)
+		{
+			for(int z = entry.chunkZ-entry.radius; z <= entry.chunkZ+entry.radius; z++)
+			{
+				getSet(watchers, entry.dimension, x, z).remove(entry.player);
+				cleanup(watchers, entry.dimension, x, z);
+			}
+		}
+
+		getSet(occupants, entry.dimension, entry.chunkX, entry.chunkZ).remove(entry.player);
+		cleanup(occupants, entry.dimension, entry.chunkX, entry.chunkZ);
+
+		entries.remove(entry.player.getUniqueID());
+	}
+
+	private Collection<EntityPlayerMP> collect(Map<Integer, Map<Long, Set<EntityPlayerMP>>> index, int dimension, int minX, int minZ, int maxX, int maxZ)
+	{
+		Map<Long, Set<EntityPlayerMP>> chunks = index.get(dimension);
+
+		if(chunks == null)
+		{
+			return Collections.emptySet();
+		}
+
+		//Most packets are for a single block, so the chunk's own set can usually be returned as is
+		if(minX == maxX && minZ == maxZ)
+		{
+			Set<EntityPlayerMP> set = chunks.get(getKey(minX, minZ));
+
+			return set != null ? set : Collections.<EntityPlayerMP>emptySet();
+		}
+
+		Set<EntityPlayerMP> ret = new HashSet<EntityPlayerMP>();
+
+		for(int x = minX; x <= maxX; x++)
+		{
+			for(int z = minZ; z <= maxZ; z++)
+			{
+				Set<EntityPlayerMP> set = chunks.get(getKey(x, z));
+
+				if(set != null)
+				{
+					ret.addAll(set);
+				}
+			}
+		}
+
+		return ret;
+	}
+
+	private static Set<EntityPlayerMP> getSet(Map<Integer, Map<Long, Set<EntityPlayerMP>>> index, int dimension, int x, int z)
+	{
+		Map<Long, Set<EntityPlayerMP>> chunks = index.get(dimension);
+
+		if(chunks == null)
+		{
+			chunks = new HashMap<Long, Set<EntityPlayerMP>>();
+			index.put(dimension, chunks);
+		}
+
+		long key = getKey(x, z);
+		Set<EntityPlayerMP> set = chunks.get(key);
+
+		if(set == null)
+		{
+			set = new HashSet<EntityPlayerMP>();
+			chunks.put(key, set);
+		}
+
+		return set;
+	}
+
+	private static void cleanup(Map<Integer, Map<Long, Set<EntityPlayerMP>>> index, int dimension, int x, int z)
+	{
+		Map<Long, Set<EntityPlayerMP>> chunks = index.get(dimension);
+
+		if(chunks != null)
+		{
+			long key = getKey(x, z);
+			Set<EntityPlayerMP> set = chunks.get(key);
+
+			if(set != null && set.isEmpty())
+			{
+				chunks.remove(key);
+
+				if(chunks.isEmpty())
+				{
+					index.remove(dimension);
+				}
+			}
+		}
+	}
+
+	private static long getKey(int x, int z)
+	{
+		return ((long)x << 32) | (z & 0xFFFFFFFFL);
+	}
+
+	private static class Entry
+	{
+		public EntityPlayerMP player;
+
+		public int dimension;
+		public int chunkX;
+		public int chunkZ;
+		public int radius;
+
+		public Entry(EntityPlayerMP p, int dim, int x, int z, int r)
+		{
+			player = p;
+			dimension = dim;
+			chunkX = x;
+			chunkZ = z;
+			radius = r;
+		}
+
+		public boolean watches(int x, int z)
+		{
+			return Math.abs(x-chunkX) <= radius && Math.abs(z-chunkZ) <= radius;
+		}
+	}
+}
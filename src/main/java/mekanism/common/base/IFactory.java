@@ -4,7 +4,6 @@ import java.util.Map;
 
 import mekanism.api.gas.Gas;
 import mekanism.api.gas.GasStack;
-import mekanism.api.util.StackUtils;
 import mekanism.common.InfuseStorage;
 import mekanism.common.block.states.BlockStateMachine.MachineType;
 import mekanism.common.recipe.RecipeHandler;
@@ -180,21 +179,16 @@ public interface IFactory
 				return false;
 			}
 
-			for(Object obj : recipe.get().entrySet())
-			{
-				if(((Map.Entry)obj).getKey() instanceof AdvancedMachineInput)
-				{
-					Map.Entry entry = (Map.Entry)obj;
-					ItemStack stack = ((AdvancedMachineInput)entry.getKey()).itemStack;
-
-					if(StackUtils.equalsWildcard(stack, itemStack))
-					{
-						return true;
-					}
-				}
-			}
-
-			return false;
+			//Only the fuelled recipe types have AdvancedMachineInput recipes
+			return usesFuel && recipe.containsRecipe(itemStack);
+		}
+		
+		/**
+		 * @return a number that changes whenever this type's recipes are added to or removed
+		 */
+		public int getRecipeVersion()
+		{
+			return recipe.getVersion();
 		}
 
 		public TileEntityAdvancedElectricMachine getTile()
@@ -19,4 +19,14 @@ public interface ITileComponent
 	public void write(ArrayList<Object> data);
 	
 	public void invalidate();
+	
+	/**
+	 * Called when the tile's chunk unloads. Does nothing by default.
+	 */
+	public default void onChunkUnload() {}
+	
+	/**
+	 * Called on the server when a block next to the tile changes. Does nothing by default.
+	 */
+	public default void onNeighborChange() {}
 }
@@ -4,6 +4,8 @@ import io.netty.buffer.ByteBuf;
 
 import java.util.ArrayList;
 
+import mekanism.common.PacketHandler;
+
 /**
  * Internal interface used for blocks that send data between clients and the server
  * @author AidanBrady
@@ -23,4 +25,14 @@ public interface ITileNetwork
 	 * @return ArrayList
 	 */
 	public ArrayList<Object> getNetworkedData(ArrayList<Object> data);
+
+	/**
+	 * Writes the data this tile entity keeps synchronized with the client straight into a packet buffer, in the order
+	 * handlePacketData() reads it back. By default this encodes the list from getNetworkedData().
+	 * @param dataStream - buffer to write to
+	 */
+	public default void writeNetworkedData(ByteBuf dataStream)
+	{
+		PacketHandler.encode(new Object[] {getNetworkedData(new ArrayList<Object>())}, dataStream);
+	}
 }
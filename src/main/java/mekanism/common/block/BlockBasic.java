@@ -35,6 +35,7 @@ import mekanism.common.tile.TileEntityInductionProvider;
 import mekanism.common.tile.TileEntityMultiblock;
 import mekanism.common.tile.TileEntitySecurityDesk;
 import mekanism.common.tile.TileEntitySuperheatingElement;
+import mekanism.common.tile.TileEntityTeleporter;
 import mekanism.common.tile.TileEntityThermalEvaporationController;
 import mekanism.common.util.FluidContainerUtils;
 import mekanism.common.util.MekanismUtils;
@@ -228,7 +229,7 @@ public abstract class BlockBasic extends Block implements ICTMBlock
 
 			if(tileEntity instanceof IMultiblock)
 			{
-				((IMultiblock)tileEntity).doUpdate();
+				((IMultiblock)tileEntity).doUpdate(new Coord4D(pos, world));
 			}
 
 			if(tileEntity instanceof TileEntityBasicBlock)
@@ -848,9 +849,25 @@ public abstract class BlockBasic extends Block implements ICTMBlock
 			((IBoundingBlock)tileEntity).onBreak();
 		}
 
+		if(BasicBlockType.get(state) == BasicBlockType.TELEPORTER_FRAME)
+		{
+			TileEntityTeleporter.onFrameChanged(world, pos);
+		}
+
 		super.breakBlock(world, pos, state);
 	}
 
+	@Override
+	public void onBlockAdded(World world, BlockPos pos, IBlockState state)
+	{
+		super.onBlockAdded(world, pos, state);
+
+		if(BasicBlockType.get(state) == BasicBlockType.TELEPORTER_FRAME)
+		{
+			TileEntityTeleporter.onFrameChanged(world, pos);
+		}
+	}
+
 	@Override
 	public ItemStack getPickBlock(IBlockState state, RayTraceResult target, World world, BlockPos pos, EntityPlayer player)
 	{
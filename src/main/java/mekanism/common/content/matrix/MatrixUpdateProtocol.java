@@ -84,8 +84,7 @@ public class MatrixUpdateProtocol extends UpdateProtocol<SynchronizedMatrixData>
 			
 			if(tile instanceof TileEntityInductionCell)
 			{
-				structure.cells.add(coord);
-				structure.storageCap += ((TileEntityInductionCell)tile).tier.maxEnergy;
+				structure.addCell((TileEntityInductionCell)tile);
 			}
 			else if(tile instanceof TileEntityInductionProvider)
 			{
@@ -96,4 +95,38 @@ public class MatrixUpdateProtocol extends UpdateProtocol<SynchronizedMatrixData>
 		
 		return true;
 	}
+	
+	@Override
+	protected void onFormed()
+	{
+		super.onFormed();
+		
+		for(Coord4D coord : structureFound.cells)
+		{
+			TileEntity tile = coord.getTileEntity(pointer.getWorld());
+			
+			if(tile instanceof TileEntityInductionCell)
+			{
+				((TileEntityInductionCell)tile).matrix = structureFound;
+			}
+		}
+	}
+	
+	@Override
+	public void onStructureDestroyed(SynchronizedMatrixData structure)
+	{
+		super.onStructureDestroyed(structure);
+		
+		structure.writeEnergy(pointer.getWorld());
+		
+		for(Coord4D coord : structure.cells)
+		{
+			TileEntity tile = coord.getTileEntity(pointer.getWorld());
+			
+			if(tile instanceof TileEntityInductionCell && ((TileEntityInductionCell)tile).matrix == structure)
+			{
+				((TileEntityInductionCell)tile).matrix = null;
+			}
+		}
+	}
 }
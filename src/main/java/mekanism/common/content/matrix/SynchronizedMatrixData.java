@@ -28,31 +28,85 @@ public class SynchronizedMatrixData extends SynchronizedData<SynchronizedMatrixD
 	public double storageCap;
 	public double transferCap;
 	
+	private double energy;
+	
+	/** Whether the energy has changed since it was last written back to the cells. */
+	private boolean energyChanged;
+	
 	@Override
 	public ItemStack[] getInventory()
 	{
 		return inventory;
 	}
 	
-	public double getEnergy(World world)
+	/**
+	 * Gets the energy stored across the matrix's cells. This is kept as one value while the matrix is formed, so
+	 * transfers don't have to visit every cell; the cells themselves are only brought up to date by writeEnergy().
+	 * @return energy stored in the matrix
+	 */
+	public double getEnergy()
 	{
-		double ret = 0;
-		
-		for(Coord4D coord : cells)
+		return energy;
+	}
+	
+	public void setEnergy(World world, double amount)
+	{
+		if(!energyChanged)
 		{
-			TileEntity tile = coord.getTileEntity(world);
+			energyChanged = true;
 			
-			if(tile instanceof TileEntityInductionCell)
+			//Make sure every cell's chunk gets saved, so writeEnergy() runs before the cells are written to disk
+			for(Coord4D coord : cells)
 			{
-				ret += ((TileEntityInductionCell)tile).getEnergy();
+				world.markChunkDirty(coord.getPos(), null);
 			}
 		}
 		
-		return ret;
+		energy = amount;
+	}
+	
+	/**
+	 * Adds a cell's energy to the matrix, used when the structure is formed.
+	 * @param cell - cell being added
+	 */
+	public void addCell(TileEntityInductionCell cell)
+	{
+		cells.add(Coord4D.get(cell));
+		storageCap += cell.tier.maxEnergy;
+		energy += cell.getEnergy();
+	}
+	
+	/**
+	 * Takes a cell that is being removed out of the matrix, along with its share of the energy.
+	 * @param cell - cell being removed
+	 */
+	public void removeCell(TileEntityInductionCell cell)
+	{
+		writeEnergy(cell.getWorld());
+		
+		if(cells.remove(Coord4D.get(cell)))
+		{
+			storageCap -= cell.tier.maxEnergy;
+			energy = Math.max(energy-cell.electricityStored, 0);
+		}
 	}
 	
-	public void setEnergy(World world, double energy)
+	/**
+	 * Spreads the matrix's energy back over its cells, filling them in order. Called before the cells are saved, read
+	 * from or removed, and when the structure changes or is destroyed.
+	 * @param world - world the matrix is in
+	 */
+	public void writeEnergy(World world)
 	{
+		if(!energyChanged)
+		{
+			return;
+		}
+		
+		energyChanged = false;
+		
+		double remaining = energy;
+		
 		for(Coord4D coord : cells)
 		{
 			TileEntity tile = coord.getTileEntity(world);
@@ -61,12 +115,9 @@ public class SynchronizedMatrixData extends SynchronizedData<SynchronizedMatrixD
 			{
 				TileEntityInductionCell cell = (TileEntityInductionCell)tile;
 				
-				cell.setEnergy(0);
-				
-				double toAdd = Math.min(cell.getMaxEnergy(), energy);
-				cell.setEnergy(toAdd);
-				energy -= toAdd;
+				cell.electricityStored = Math.min(cell.getMaxEnergy(), remaining);
+				remaining -= cell.electricityStored;
 			}
 		}
 	}
-}
\ No newline at end of file
+}
@@ -1,152 +1,250 @@
 package mekanism.common.content.miner;
 
+import java.util.ArrayList;
 import java.util.BitSet;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
 
 import mekanism.api.Chunk3D;
 import mekanism.api.Coord4D;
-import mekanism.api.util.BlockInfo;
 import mekanism.common.tile.TileEntityBoundingBlock;
 import mekanism.common.tile.TileEntityDigitalMiner;
 import mekanism.common.util.MekanismUtils;
+import net.minecraft.block.Block;
 import net.minecraft.block.BlockLiquid;
+import net.minecraft.block.material.Material;
 import net.minecraft.block.state.IBlockState;
 import net.minecraft.item.ItemStack;
 import net.minecraft.tileentity.TileEntity;
 import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.World;
+import net.minecraft.world.chunk.Chunk;
+import net.minecraft.world.chunk.NibbleArray;
+import net.minecraft.world.chunk.storage.ExtendedBlockStorage;
 import net.minecraftforge.fluids.IFluidBlock;
 
+/**
+ * Searches a Digital Miner's area for blocks to mine. The loaded chunks of the area are copied on the server thread when
+ * the search is started, and the copies are then scanned off-thread, one fork-join task per chunk, so the world is never
+ * read from outside the server thread.
+ */
 public class ThreadMinerSearch extends Thread
 {
+	private static final ForkJoinPool POOL = new ForkJoinPool(Math.max(1, Runtime.getRuntime().availableProcessors()-1));
+
+	/** Verdict stored for block states that match no filter, or that should never be mined. */
+	private static final MinerFilter REJECTED = new Verdict();
+
+	/** Verdict stored for block states that are mined without matching a filter, in inverse mode. */
+	private static final MinerFilter ACCEPTED = new Verdict();
+
 	public TileEntityDigitalMiner tileEntity;
 
-	public State state = State.IDLE;
+	public volatile State state = State.IDLE;
 
 	public Map<Chunk3D, BitSet> oresToMine = new HashMap<Chunk3D, BitSet>();
 	public Map<Integer, MinerFilter> replaceMap = new HashMap<Integer, MinerFilter>();
 
-	public Map<BlockInfo, MinerFilter> acceptedItems = new HashMap<BlockInfo, MinerFilter>();
+	/** Filter verdicts by block state ID, shared between the chunk tasks. */
+	public Map<Integer, MinerFilter> acceptedItems = new ConcurrentHashMap<Integer, MinerFilter>();
 
-	public int found = 0;
+	public volatile int found = 0;
+
+	private List<ChunkSnapshot> snapshots = new ArrayList<ChunkSnapshot>();
+
+	private Coord4D start;
+	private int diameter;
+	private int maxY;
+	private BlockPos minerPos;
 
 	public ThreadMinerSearch(TileEntityDigitalMiner tile)
 	{
 		tileEntity = tile;
 	}
 
+	/**
+	 * Copies the area's loaded chunks before starting the search; must be called from the server thread.
+	 */
 	@Override
-	public void run()
+	public synchronized void start()
 	{
 		state = State.SEARCHING;
 
+		takeSnapshots();
+
+		super.start();
+	}
+
+	private void takeSnapshots()
+	{
+		World world = tileEntity.getWorld();
+
+		start = tileEntity.getStartingCoord();
+		diameter = tileEntity.getDiameter();
+		maxY = start.yCoord + tileEntity.getTotalSize()/(diameter*diameter) - 1;
+		minerPos = tileEntity.getPos();
+
+		for(int chunkX = start.xCoord >> 4; chunkX <= (start.xCoord+diameter-1) >> 4; chunkX++)
+		{
+			for(int chunkZ = start.zCoord >> 4; chunkZ <= (start.zCoord+diameter-1) >> 4; chunkZ++)
+			{
+				Chunk chunk = world.getChunkProvider().getLoadedChunk(chunkX, chunkZ);
+
+				if(chunk != null)
+				{
+					snapshots.add(new ChunkSnapshot(chunk, start.dimensionId, start.yCoord, maxY));
+				}
+			}
+		}
+	}
+
+	@Override
+	public void run()
+	{
 		if(!tileEntity.inverse && tileEntity.filters.isEmpty())
 		{
 			state = State.FINISHED;
 			return;
 		}
 
-		Coord4D coord = tileEntity.getStartingCoord();
-		int diameter = tileEntity.getDiameter();
-		int size = tileEntity.getTotalSize();
-		BlockInfo info = new BlockInfo(null, 0);
+		List<ChunkSearch> tasks = new ArrayList<ChunkSearch>();
 
-		for(int i = 0; i < size; i++)
+		for(ChunkSnapshot snapshot : snapshots)
 		{
-			int x = coord.xCoord+i%diameter;
-			int z = coord.zCoord+(i/diameter)%diameter;
-			int y = coord.yCoord+(i/diameter/diameter);
+			ChunkSearch task = new ChunkSearch(snapshot);
+			POOL.execute(task);
+			tasks.add(task);
+		}
 
-			if(tileEntity.isInvalid())
+		for(ChunkSearch task : tasks)
+		{
+			if(isCancelled())
 			{
+				for(ChunkSearch other : tasks)
+				{
+					other.cancel(false);
+				}
+
 				return;
 			}
 
-			try {
-				if(tileEntity.getPos().getX() == x && tileEntity.getPos().getY() == y && tileEntity.getPos().getZ() == z)
-				{
-					continue;
-				}
-	
-				if(tileEntity.getWorld().getChunkProvider().getLoadedChunk(x >> 4, z >> 4) == null)
-				{
-					continue;
-				}
-	
-				TileEntity tile = tileEntity.getWorld().getTileEntity(new BlockPos(x, y, z));
-				
-				if(tile instanceof TileEntityBoundingBlock)
-				{
-					continue;
-				}
+			task.join();
 
-				IBlockState state = tileEntity.getWorld().getBlockState(new BlockPos(x, y, z));
-				info.block = state.getBlock();
-				info.meta = state.getBlock().getMetaFromState(state);
-	
-				if(info.block instanceof BlockLiquid || info.block instanceof IFluidBlock)
-				{
-					continue;
-				}
-	
-				if(info.block != null && !tileEntity.getWorld().isAirBlock(new BlockPos(x, y, z)) && state.getBlockHardness(tileEntity.getWorld(), new BlockPos(x, y, z)) >= 0)
-				{
-					MinerFilter filterFound = null;
-					boolean canFilter = false;
-	
-					if(acceptedItems.containsKey(info))
-					{
-						filterFound = acceptedItems.get(info);
-					}
-					else {
-						ItemStack stack = new ItemStack(info.block, 1, info.meta);
-	
-						if(tileEntity.isReplaceStack(stack))
-						{
-							continue;
-						}
-	
-						for(MinerFilter filter : tileEntity.filters)
-						{
-							if(filter.canFilter(stack))
-							{
-								filterFound = filter;
-								break;
-							}
-						}
-	
-						acceptedItems.put(info, filterFound);
-					}
-					
-					canFilter = tileEntity.inverse ? filterFound == null : filterFound != null;
-	
-					if(canFilter)
-					{
-						set(i, new Coord4D(x, y, z, tileEntity.getWorld().provider.getDimension()));
-						replaceMap.put(i, filterFound);
-						
-						found++;
-					}
-				}
-			} catch(Exception e) {}
+			ChunkSnapshot snapshot = task.snapshot;
+
+			if(!snapshot.result.isEmpty())
+			{
+				oresToMine.put(snapshot.chunk, snapshot.result);
+				replaceMap.putAll(snapshot.replace);
+
+				found += snapshot.result.cardinality();
+			}
+		}
+
+		snapshots.clear();
+
+		if(isCancelled())
+		{
+			return;
 		}
 
-		state = State.FINISHED;
 		tileEntity.oresToMine = oresToMine;
 		tileEntity.replaceMap = replaceMap;
+		state = State.FINISHED;
 		MekanismUtils.saveChunk(tileEntity);
 	}
-	
-	public void set(int i, Coord4D location)
+
+	private boolean isCancelled()
+	{
+		return isInterrupted() || tileEntity.isInvalid() || tileEntity.searcher != this;
+	}
+
+	/**
+	 * Gets the verdict for a block state, working it out the first time the state is seen.
+	 * @param stateId - block state ID, as stored in chunk data: the block ID shifted left by 4, with the meta in the low bits
+	 * @return the matching filter, ACCEPTED or REJECTED
+	 */
+	private MinerFilter getVerdict(int stateId)
 	{
-		Chunk3D chunk = new Chunk3D(location);
-		
-		if(oresToMine.get(chunk) == null)
+		MinerFilter verdict = acceptedItems.get(stateId);
+
+		if(verdict != null)
+		{
+			return verdict;
+		}
+
+		//Filters aren't thread-safe, so only one task at a time works out a new verdict
+		synchronized(acceptedItems)
 		{
-			oresToMine.put(chunk, new BitSet());
+			verdict = acceptedItems.get(stateId);
+
+			if(verdict == null)
+			{
+				verdict = computeVerdict(stateId);
+				acceptedItems.put(stateId, verdict);
+			}
+		}
+
+		return verdict;
+	}
+
+	private MinerFilter computeVerdict(int stateId)
+	{
+		try {
+			IBlockState state = Block.BLOCK_STATE_IDS.getByValue(stateId);
+
+			//Chunks load unregistered states as air
+			if(state == null)
+			{
+				return REJECTED;
+			}
+
+			Block block = state.getBlock();
+
+			if(block == null || block instanceof BlockLiquid || block instanceof IFluidBlock || state.getMaterial() == Material.AIR)
+			{
+				return REJECTED;
+			}
+
+			try {
+				//Most blocks don't need the world for their hardness; the miner checks the rest again before mining
+				if(state.getBlockHardness(null, null) < 0)
+				{
+					return REJECTED;
+				}
+			} catch(Exception e) {}
+
+			ItemStack stack = new ItemStack(block, 1, block.getMetaFromState(state));
+
+			if(tileEntity.isReplaceStack(stack))
+			{
+				return REJECTED;
+			}
+
+			MinerFilter filterFound = null;
+
+			for(MinerFilter filter : tileEntity.filters)
+			{
+				if(filter.canFilter(stack))
+				{
+					filterFound = filter;
+					break;
+				}
+			}
+
+			if(tileEntity.inverse)
+			{
+				return filterFound == null ? ACCEPTED : REJECTED;
+			}
+
+			return filterFound != null ? filterFound : REJECTED;
+		} catch(Exception e) {
+			return REJECTED;
 		}
-		
-		oresToMine.get(chunk).set(i);
 	}
 
 	public void reset()
@@ -168,4 +266,143 @@ public class ThreadMinerSearch extends Thread
 			desc = s;
 		}
 	}
+
+	/**
+	 * Copy of the block storage of one chunk, limited to the sections within the miner's Y range.
+	 */
+	private static class ChunkSnapshot
+	{
+		public Chunk3D chunk;
+
+		public byte[][] blockIds = new byte[16][];
+		public NibbleArray[] data = new NibbleArray[16];
+		public NibbleArray[] extension = new NibbleArray[16];
+
+		/** Bounding blocks in this chunk, which are never mined, indexed by y << 8 | z << 4 | x. Null if there are none. */
+		public BitSet boundingBlocks;
+
+		public BitSet result = new BitSet();
+		public Map<Integer, MinerFilter> replace = new HashMap<Integer, MinerFilter>();
+
+		public ChunkSnapshot(Chunk c, int dimension, int minY, int maxY)
+		{
+			chunk = new Chunk3D(c.xPosition, c.zPosition, dimension);
+
+			ExtendedBlockStorage[] storage = c.getBlockStorageArray();
+
+			for(int section = Math.max(minY >> 4, 0); section <= Math.min(maxY >> 4, storage.length-1); section++)
+			{
+				if(storage[section] != null && !storage[section].isEmpty())
+				{
+					blockIds[section] = new byte[4096];
+					data[section] = new NibbleArray();
+					extension[section] = storage[section].getData().getDataForNBT(blockIds[section], data[section]);
+				}
+			}
+
+			for(TileEntity tile : c.getTileEntityMap().values())
+			{
+				if(tile instanceof TileEntityBoundingBlock)
+				{
+					BlockPos pos = tile.getPos();
+
+					if(boundingBlocks == null)
+					{
+						boundingBlocks = new BitSet(65536);
+					}
+
+					boundingBlocks.set((pos.getY() & 255) << 8 | (pos.getZ() & 15) << 4 | (pos.getX() & 15));
+				}
+			}
+		}
+	}
+
+	private class ChunkSearch extends RecursiveAction
+	{
+		private ChunkSnapshot snapshot;
+
+		public ChunkSearch(ChunkSnapshot s)
+		{
+			snapshot = s;
+		}
+
+		@Override
+		protected void compute()
+		{
+			int minX = Math.max(start.xCoord, snapshot.chunk.xCoord << 4);
+			int maxX = Math.min(start.xCoord+diameter-1, (snapshot.chunk.xCoord << 4) + 15);
+			int minZ = Math.max(start.zCoord, snapshot.chunk.zCoord << 4);
+			int maxZ = Math.min(start.zCoord+diameter-1, (snapshot.chunk.zCoord << 4) + 15);
+
+			for(int y = start.yCoord; y <= maxY; y++)
+			{
+				int section = y >> 4;
+
+				if(section < 0 || section >= 16 || snapshot.blockIds[section] == null)
+				{
+					continue;
+				}
+
+				if(isCancelled())
+				{
+					return;
+				}
+
+				byte[] ids = snapshot.blockIds[section];
+				NibbleArray data = snapshot.data[section];
+				NibbleArray extension = snapshot.extension[section];
+				int localY = y & 15;
+
+				for(int z = minZ; z <= maxZ; z++)
+				{
+					for(int x = minX; x <= maxX; x++)
+					{
+						int localX = x & 15;
+						int localZ = z & 15;
+
+						int blockId = (ids[localY << 8 | localZ << 4 | localX] & 255);
+
+						if(extension != null)
+						{
+							blockId |= extension.get(localX, localY, localZ) << 8;
+						}
+
+						if(blockId == 0)
+						{
+							continue;
+						}
+
+						if(x == minerPos.getX() && y == minerPos.getY() && z == minerPos.getZ())
+						{
+							continue;
+						}
+
+						MinerFilter verdict = getVerdict(blockId << 4 | data.get(localX, localY, localZ));
+
+						if(verdict == REJECTED || (snapshot.boundingBlocks != null && snapshot.boundingBlocks.get(y << 8 | localZ << 4 | localX)))
+						{
+							continue;
+						}
+
+						int index = (y-start.yCoord)*diameter*diameter + (z-start.zCoord)*diameter + (x-start.xCoord);
+
+						snapshot.result.set(index);
+						snapshot.replace.put(index, verdict == ACCEPTED ? null : verdict);
+					}
+				}
+			}
+		}
+	}
+
+	/**
+	 * Marker stored in the verdict map in place of a real filter. Never matches anything itself.
+	 */
+	private static class Verdict extends MinerFilter
+	{
+		@Override
+		public boolean canFilter(ItemStack itemStack)
+		{
+			return false;
+		}
+	}
 }
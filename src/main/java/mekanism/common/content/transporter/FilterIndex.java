@@ -0,0 +1,170 @@
+package mekanism.common.content.transporter;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import mekanism.common.HashList;
+import mekanism.common.util.ItemRegistryUtils;
+import mekanism.common.util.MekanismUtils;
+import net.minecraft.block.Block;
+import net.minecraft.block.material.Material;
+import net.minecraft.item.Item;
+import net.minecraft.item.ItemBlock;
+import net.minecraft.item.ItemStack;
+
+/**
+ * A Logistical Sorter's filters, indexed by the item, ore dictionary name, mod ID or material they match, so the filters
+ * that match a stack can be found without checking each one. Filters using "*" wildcards can't be looked up, so they
+ * are kept apart and checked for every stack. Built from the filter list as it is, and rebuilt when the list changes.
+ */
+public class FilterIndex
+{
+	public List<TransporterFilter> filters = new ArrayList<TransporterFilter>();
+
+	/** The version of the filter list this index was built from. */
+	public int version;
+
+	private Finder[] finders;
+
+	private Map<Item, List<Integer>> itemFilters = new HashMap<Item, List<Integer>>();
+	private Map<String, List<Integer>> oreDictFilters = new HashMap<String, List<Integer>>();
+	private Map<String, List<Integer>> modIDFilters = new HashMap<String, List<Integer>>();
+	private Map<Material, List<Integer>> materialFilters = new HashMap<Material, List<Integer>>();
+
+	private List<Integer> wildcardFilters = new ArrayList<Integer>();
+
+	public FilterIndex(HashList<TransporterFilter> list)
+	{
+		version = list.getVersion();
+
+		for(TransporterFilter filter : list)
+		{
+			if(filter != null)
+			{
+				filters.add(filter);
+			}
+		}
+
+		finders = new Finder[filters.size()];
+
+		for(int i = 0; i < filters.size(); i++)
+		{
+			TransporterFilter filter = filters.get(i);
+			finders[i] = filter.getFinder();
+
+			if(filter instanceof TItemStackFilter)
+			{
+				put(itemFilters, ((TItemStackFilter)filter).itemType.getItem(), i);
+			}
+			else if(filter instanceof TOreDictFilter)
+			{
+				String name = ((TOreDictFilter)filter).oreDictName;
+
+				if(isWildcard(name))
+				{
+					wildcardFilters.add(i);
+				}
+				else {
+					put(oreDictFilters, name, i);
+				}
+			}
+			else if(filter instanceof TModIDFilter)
+			{
+				String modID = ((TModIDFilter)filter).modID;
+
+				if(isWildcard(modID))
+				{
+					wildcardFilters.add(i);
+				}
+				else {
+					put(modIDFilters, modID, i);
+				}
+			}
+			else if(filter instanceof TMaterialFilter)
+			{
+				put(materialFilters, ((TMaterialFilter)filter).getMaterial(), i);
+			}
+			else {
+				wildcardFilters.add(i);
+			}
+		}
+	}
+
+	/**
+	 * Gets the filters whose finders match a stack. The sorter still has to check each with canFilter(), which also looks at
+	 * the stack's size.
+	 * @param stack - stack to match
+	 * @return the positions of the matching filters in the filter list, which are also their priority
+	 */
+	public BitSet getMatches(ItemStack stack)
+	{
+		BitSet ret = new BitSet(filters.size());
+
+		check(ret, itemFilters.get(stack.getItem()), stack);
+
+		for(String name : MekanismUtils.getOreDictName(stack))
+		{
+			check(ret, oreDictFilters.get(name), stack);
+		}
+
+		if(stack.getItem() instanceof ItemBlock)
+		{
+			if(!modIDFilters.isEmpty())
+			{
+				check(ret, modIDFilters.get(ItemRegistryUtils.getMod(stack)), stack);
+			}
+
+			if(!materialFilters.isEmpty())
+			{
+				Material material = Block.getBlockFromItem(stack.getItem()).getStateFromMeta(stack.getItemDamage()).getMaterial();
+				check(ret, materialFilters.get(material), stack);
+			}
+		}
+
+		check(ret, wildcardFilters, stack);
+
+		return ret;
+	}
+
+	public boolean isEmpty()
+	{
+		return filters.isEmpty();
+	}
+
+	private void check(BitSet ret, List<Integer> candidates, ItemStack stack)
+	{
+		if(candidates == null)
+		{
+			return;
+		}
+
+		for(int i : candidates)
+		{
+			if(!ret.get(i) && finders[i].modifies(stack))
+			{
+				ret.set(i);
+			}
+		}
+	}
+
+	private static <K> void put(Map<K, List<Integer>> map, K key, int index)
+	{
+		List<Integer> list = map.get(key);
+
+		if(list == null)
+		{
+			list = new ArrayList<Integer>();
+			map.put(key, list);
+		}
+
+		list.add(index);
+	}
+
+	private static boolean isWildcard(String name)
+	{
+		return name.startsWith("*") || name.endsWith("*");
+	}
+}
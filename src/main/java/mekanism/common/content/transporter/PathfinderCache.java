@@ -2,19 +2,70 @@ package mekanism.common.content.transporter;
 
 import java.util.EnumSet;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import mekanism.api.Coord4D;
 import net.minecraft.util.EnumFacing;
 
 public class PathfinderCache 
 {
-	public static Map<PathData, List<Coord4D>> cachedPaths = new HashMap<PathData, List<Coord4D>>();
+	public static final int MAX_CACHED_PATHS = 8192;
 	
+	private static Map<PathData, List<Coord4D>> cachedPaths = new LinkedHashMap<PathData, List<Coord4D>>(256, 0.75F, true) {
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<PathData, List<Coord4D>> eldest)
+		{
+			if(size() > MAX_CACHED_PATHS)
+			{
+				unindex(eldest.getKey(), eldest.getValue());
+
+				return true;
+			}
+
+			return false;
+		}
+	};
+
+	/** Cached paths by every location they pass through, including their destination. */
+	private static Map<Coord4D, Set<PathData>> pathsByLocation = new HashMap<Coord4D, Set<PathData>>();
+
+	/** Cached paths by the dimension they are in. */
+	private static Map<Integer, Set<PathData>> pathsByDimension = new HashMap<Integer, Set<PathData>>();
+
+	/**
+	 * Evicts every cached path that passes through or next to the changed location. Paths next to it are dropped too,
+	 * as a transporter placed there might now give them a shorter route.
+	 * @param location - location that changed
+	 */
 	public static void onChanged(Coord4D location)
 	{
-		reset();
+		evict(location);
+
+		for(EnumFacing side : EnumFacing.VALUES)
+		{
+			evict(location.offset(side));
+		}
+	}
+
+	/**
+	 * Evicts every cached path in a dimension, used when that dimension unloads.
+	 * @param dimensionId - dimension to clear
+	 */
+	public static void onDimensionUnload(int dimensionId)
+	{
+		Set<PathData> paths = pathsByDimension.get(dimensionId);
+
+		if(paths != null)
+		{
+			for(PathData data : new HashSet<PathData>(paths))
+			{
+				remove(data);
+			}
+		}
 	}
 	
 	public static List<Coord4D> getCache(Coord4D start, Coord4D end, EnumSet<EnumFacing> sides)
@@ -35,10 +86,100 @@ public class PathfinderCache
 		
 		return ret;
 	}
+
+	public static void addCache(PathData data, List<Coord4D> path)
+	{
+		List<Coord4D> prev = cachedPaths.put(data, path);
+
+		if(prev != null)
+		{
+			unindex(data, prev);
+		}
+
+		for(Coord4D coord : path)
+		{
+			getOrCreate(pathsByLocation, coord).add(data);
+		}
+
+		getOrCreate(pathsByDimension, data.startTransporter.dimensionId).add(data);
+	}
+
+	public static int getSize()
+	{
+		return cachedPaths.size();
+	}
 	
 	public static void reset()
 	{
 		cachedPaths.clear();
+		pathsByLocation.clear();
+		pathsByDimension.clear();
+	}
+
+	private static void evict(Coord4D location)
+	{
+		Set<PathData> paths = pathsByLocation.get(location);
+
+		if(paths != null)
+		{
+			for(PathData data : new HashSet<PathData>(paths))
+			{
+				remove(data);
+			}
+		}
+	}
+
+	private static void remove(PathData data)
+	{
+		List<Coord4D> path = cachedPaths.remove(data);
+
+		if(path != null)
+		{
+			unindex(data, path);
+		}
+	}
+
+	private static void unindex(PathData data, List<Coord4D> path)
+	{
+		for(Coord4D coord : path)
+		{
+			Set<PathData> paths = pathsByLocation.get(coord);
+
+			if(paths != null)
+			{
+				paths.remove(data);
+
+				if(paths.isEmpty())
+				{
+					pathsByLocation.remove(coord);
+				}
+			}
+		}
+
+		Set<PathData> paths = pathsByDimension.get(data.startTransporter.dimensionId);
+
+		if(paths != null)
+		{
+			paths.remove(data);
+
+			if(paths.isEmpty())
+			{
+				pathsByDimension.remove(data.startTransporter.dimensionId);
+			}
+		}
+	}
+
+	private static <K> Set<PathData> getOrCreate(Map<K, Set<PathData>> map, K key)
+	{
+		Set<PathData> set = map.get(key);
+
+		if(set == null)
+		{
+			set = new HashSet<PathData>();
+			map.put(key, set);
+		}
+
+		return set;
 	}
 	
 	public static class PathData
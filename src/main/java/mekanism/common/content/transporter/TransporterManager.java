@@ -1,6 +1,7 @@
 package mekanism.common.content.transporter;
 
 import java.util.ArrayList;
+import java.util.EnumMap;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -27,9 +28,22 @@ public class TransporterManager
 {
 	public static Map<Coord4D, Set<TransporterStack>> flowingStacks = new HashMap<Coord4D, Set<TransporterStack>>();
 	
+	/**
+	 * Copies of destination inventories with the stacks already heading to them inserted, by side, so every stack routed
+	 * to the same inventory in a tick doesn't copy it again. A destination's copies are dropped when a stack heading to it
+	 * is added or removed, and all of them are dropped at the start of each world tick.
+	 */
+	private static Map<Coord4D, Map<EnumFacing, InventoryCopy>> predictedInventories = new HashMap<Coord4D, Map<EnumFacing, InventoryCopy>>();
+	
 	public static void reset()
 	{
 		flowingStacks.clear();
+		predictedInventories.clear();
+	}
+	
+	public static void clearPredictions()
+	{
+		predictedInventories.clear();
 	}
 
 	public static void add(TransporterStack stack)
@@ -44,6 +58,8 @@ public class TransporterManager
 		else {
 			flowingStacks.get(stack.getDest()).addAll(set);
 		}
+		
+		predictedInventories.remove(stack.getDest());
 	}
 
 	public static void remove(TransporterStack stack)
@@ -51,6 +67,7 @@ public class TransporterManager
 		if(stack.hasPath() && stack.pathType != Path.NONE)
 		{
 			flowingStacks.get(stack.getDest()).remove(stack);
+			predictedInventories.remove(stack.getDest());
 		}
 	}
 
@@ -331,20 +348,13 @@ public class TransporterManager
 		}
 
 		IInventory inventory = (IInventory)tileEntity;
-		InventoryCopy copy = copyInvFromSide(inventory, side);
+		InventoryCopy copy = getPredictedInventory(inventory, Coord4D.get(tileEntity), side);
 
 		if(copy == null)
 		{
 			return itemStack;
 		}
 
-		List<TransporterStack> insertQueue = getStacksToDest(Coord4D.get(tileEntity));
-
-		for(TransporterStack tStack : insertQueue)
-		{
-			testInsert(inventory, copy, side, tStack);
-		}
-
 		ItemStack toInsert = itemStack.copy();
 
 		if(!(inventory instanceof ISidedInventory))
@@ -479,6 +489,43 @@ public class TransporterManager
 		return toInsert;
 	}
 	
+	/**
+	 * Gets a copy of an inventory as seen from a side, with the stacks already heading to it inserted. The copy is shared
+	 * for the rest of the tick and must not be changed.
+	 * @param inventory - inventory to copy
+	 * @param coord - location of the inventory
+	 * @param side - side the stacks go in from
+	 * @return the copy, or null if nothing can go in from that side
+	 */
+	private static InventoryCopy getPredictedInventory(IInventory inventory, Coord4D coord, EnumFacing side)
+	{
+		Map<EnumFacing, InventoryCopy> copies = predictedInventories.get(coord);
+		
+		if(copies == null)
+		{
+			copies = new EnumMap<EnumFacing, InventoryCopy>(EnumFacing.class);
+			predictedInventories.put(coord, copies);
+		}
+		else if(copies.containsKey(side))
+		{
+			return copies.get(side);
+		}
+		
+		InventoryCopy copy = copyInvFromSide(inventory, side);
+		
+		if(copy != null)
+		{
+			for(TransporterStack tStack : getStacksToDest(coord))
+			{
+				testInsert(inventory, copy, side, tStack);
+			}
+		}
+		
+		copies.put(side, copy);
+		
+		return copy;
+	}
+	
 	public static class InventoryCopy
 	{
 		public ItemStack[] inventory;
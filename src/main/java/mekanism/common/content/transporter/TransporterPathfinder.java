@@ -2,14 +2,17 @@ package mekanism.common.content.transporter;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.EnumSet;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.PriorityQueue;
 import java.util.Set;
 
 import mekanism.api.Coord4D;
+import mekanism.api.EnumColor;
 import mekanism.api.util.CapabilityUtils;
 import mekanism.common.InventoryNetwork;
 import mekanism.common.InventoryNetwork.AcceptorData;
@@ -240,19 +243,37 @@ public final class TransporterPathfinder
 		}
 		
 		List<AcceptorData> acceptors = network.calculateAcceptors(stack.itemStack, stack.color);
+		PathTree tree = null;
+		
+		stack.pathPending = false;
 
 		for(AcceptorData entry : acceptors)
 		{
-			DestChecker checker = new DestChecker()
+			List<Coord4D> test = PathfinderCache.getCache(start.coord(), entry.location, entry.sides);
+			
+			if(test != null && checkPath(start.world(), test, stack))
 			{
-				@Override
-				public boolean isValid(TransporterStack stack, EnumFacing dir, TileEntity tile)
+				if(TransporterManager.getToUse(stack.itemStack, entry.rejected).stackSize >= min)
 				{
-					return InventoryUtils.canInsert(tile, stack.color, stack.itemStack, dir, false);
+					paths.add(new Destination(test, false, entry.rejected, 0).calculateScore(start.world()));
 				}
-			};
+				
+				continue;
+			}
+			
+			if(tree == null)
+			{
+				tree = network.getPathTree(start, stack);
+				
+				if(tree == null)
+				{
+					//Out of pathfinding for this tick, only use the paths that are already known
+					stack.pathPending = true;
+					continue;
+				}
+			}
 			
-			Destination d = getPath(checker, entry.sides, start, entry.location, stack, entry.rejected, min);
+			Destination d = tree.getPath(entry.location, entry.sides, stack, entry.rejected, min);
 			
 			if(d != null)
 			{
@@ -302,7 +323,7 @@ public final class TransporterPathfinder
 		{
 			if(TransporterManager.getToUse(stack.itemStack, rejects).stackSize >= min)
 			{
-				PathfinderCache.cachedPaths.put(new PathData(start.coord(), dest, p.side), p.getPath());
+				PathfinderCache.addCache(new PathData(start.coord(), dest, p.side), p.getPath());
 				
 				return new Destination(p.getPath(), false, rejects, p.finalScore);
 			}
@@ -543,6 +564,145 @@ public final class TransporterPathfinder
 		}
 	}
 
+	/**
+	 * Single-source Dijkstra over the transporters reachable from one start transporter. One tree answers the path to
+	 * every acceptor in the network, so all stacks leaving the same transporter with the same color share a single search
+	 * instead of running A* once per acceptor. The network keeps trees across ticks, so the whole-network search only
+	 * runs again once its transporters change.
+	 */
+	public static class PathTree
+	{
+		public final Coord4D start;
+
+		public final EnumColor color;
+
+		public final HashMap<Coord4D, Coord4D> navMap = new HashMap<Coord4D, Coord4D>();
+
+		public final HashMap<Coord4D, Double> gScore = new HashMap<Coord4D, Double>();
+
+		private World worldObj;
+
+		/** Set once a path built from this tree is found to be broken, so the network builds a new one. */
+		private boolean stale;
+
+		public PathTree(World world, Coord4D startObj, TransporterStack stack)
+		{
+			worldObj = world;
+			start = startObj;
+			color = stack.color;
+
+			find(stack);
+		}
+
+		private void find(TransporterStack stack)
+		{
+			PriorityQueue<Pair<Double, Coord4D>> openSet = new PriorityQueue<Pair<Double, Coord4D>>(16, new Comparator<Pair<Double, Coord4D>>() {
+				@Override
+				public int compare(Pair<Double, Coord4D> o1, Pair<Double, Coord4D> o2)
+				{
+					return Double.compare(o1.getLeft(), o2.getLeft());
+				}
+			});
+
+			gScore.put(start, 0D);
+			openSet.add(Pair.of(0D, start));
+
+			while(!openSet.isEmpty())
+			{
+				Pair<Double, Coord4D> current = openSet.poll();
+				Coord4D currentNode = current.getRight();
+
+				if(current.getLeft() > gScore.get(currentNode))
+				{
+					continue;
+				}
+
+				for(EnumFacing direction : EnumFacing.VALUES)
+				{
+					Coord4D neighbor = currentNode.offset(direction);
+					TileEntity tile = neighbor.getTileEntity(worldObj);
+
+					if(stack.canInsertToTransporter(tile, direction))
+					{
+						double tentativeG = current.getLeft() + CapabilityUtils.getCapability(tile, Capabilities.LOGISTICAL_TRANSPORTER_CAPABILITY, direction.getOpposite()).getCost();
+						Double prevG = gScore.get(neighbor);
+
+						if(prevG == null || tentativeG < prevG)
+						{
+							navMap.put(neighbor, currentNode);
+							gScore.put(neighbor, tentativeG);
+							openSet.add(Pair.of(tentativeG, neighbor));
+						}
+					}
+				}
+			}
+		}
+
+		public boolean isStale()
+		{
+			return stale;
+		}
+
+		/**
+		 * Builds the path to an acceptor from this tree, in the same format the A* Pathfinder produces.
+		 * @param dest - acceptor location
+		 * @param sides - sides the acceptor can be entered from, as seen from the transporter
+		 * @return destination, or null if the acceptor can't be reached
+		 */
+		public Destination getPath(Coord4D dest, EnumSet<EnumFacing> sides, TransporterStack stack, ItemStack rejects, int min)
+		{
+			Coord4D bestNode = null;
+			EnumFacing bestSide = null;
+			double bestScore = 0;
+
+			for(EnumFacing side : sides)
+			{
+				Coord4D node = dest.offset(side.getOpposite());
+				Double score = gScore.get(node);
+
+				if(score == null)
+				{
+					continue;
+				}
+
+				if((bestNode == null || score < bestScore) && InventoryUtils.canInsert(dest.getTileEntity(worldObj), stack.color, stack.itemStack, side, false))
+				{
+					bestNode = node;
+					bestSide = side;
+					bestScore = score;
+				}
+			}
+
+			if(bestNode == null || TransporterManager.getToUse(stack.itemStack, rejects).stackSize < min)
+			{
+				return null;
+			}
+
+			ArrayList<Coord4D> path = new ArrayList<Coord4D>();
+			path.add(dest);
+
+			for(Coord4D node = bestNode; node != null; node = navMap.get(node))
+			{
+				path.add(node);
+			}
+
+			if(path.size() < 2)
+			{
+				return null;
+			}
+
+			if(!checkPath(worldObj, path, stack))
+			{
+				stale = true;
+				return null;
+			}
+
+			PathfinderCache.addCache(new PathData(start, dest, bestSide), path);
+
+			return new Destination(path, false, rejects, bestScore + 1);
+		}
+	}
+
 	public static Pair<List<Coord4D>, Path> getIdlePath(ILogisticalTransporter start, TransporterStack stack)
 	{
 		if(stack.homeLocation != null)
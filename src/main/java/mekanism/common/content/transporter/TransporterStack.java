@@ -32,6 +32,9 @@ public class TransporterStack
 	public boolean initiatedPath = false;
 	
 	public EnumFacing idleDir = null;
+	
+	/** Set when this stack couldn't look for a destination because its network ran out of pathfinding for the tick. */
+	public boolean pathPending = false;
 
 	private List<Coord4D> pathToTarget = new ArrayList<Coord4D>();
 
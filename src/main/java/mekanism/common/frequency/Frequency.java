@@ -4,6 +4,7 @@ import io.netty.buffer.ByteBuf;
 
 import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.Set;
 
 import mekanism.api.Coord4D;
@@ -21,7 +22,10 @@ public class Frequency
 	
 	public boolean publicFreq;
 	
-	public Set<Coord4D> activeCoords = new HashSet<Coord4D>();
+	public Set<Coord4D> activeCoords = new ActiveCoordSet();
+	
+	/** Changed whenever activeCoords changes, so anything worked out from it can be cached until then. */
+	private int activeVersion;
 	
 	public Frequency(String n, String o)
 	{
@@ -56,6 +60,11 @@ public class Frequency
 		return !publicFreq;
 	}
 	
+	public int getActiveVersion()
+	{
+		return activeVersion;
+	}
+	
 	public Coord4D getClosestCoords(Coord4D coord)
 	{
 		Coord4D closest = null;
@@ -141,4 +150,69 @@ public class Frequency
 		return obj instanceof Frequency && ((Frequency)obj).name.equals(name) 
 				&& ((Frequency)obj).owner.equals(owner) && ((Frequency)obj).publicFreq == publicFreq;
 	}
-}
\ No newline at end of file
+	
+	/**
+	 * Set of active coordinates that changes the frequency's active version whenever it is modified, including through
+	 * its iterator.
+	 */
+	private class ActiveCoordSet extends HashSet<Coord4D>
+	{
+		@Override
+		public boolean add(Coord4D coord)
+		{
+			if(super.add(coord))
+			{
+				activeVersion++;
+				return true;
+			}
+			
+			return false;
+		}
+		
+		@Override
+		public boolean remove(Object obj)
+		{
+			if(super.remove(obj))
+			{
+				activeVersion++;
+				return true;
+			}
+			
+			return false;
+		}
+		
+		@Override
+		public void clear()
+		{
+			super.clear();
+			activeVersion++;
+		}
+		
+		@Override
+		public Iterator<Coord4D> iterator()
+		{
+			final Iterator<Coord4D> iter = super.iterator();
+			
+			return new Iterator<Coord4D>() {
+				@Override
+				public boolean hasNext()
+				{
+					return iter.hasNext();
+				}
+				
+				@Override
+				public Coord4D next()
+				{
+					return iter.next();
+				}
+				
+				@Override
+				public void remove()
+				{
+					iter.remove();
+					activeVersion++;
+				}
+			};
+		}
+	}
+}
@@ -11,6 +11,7 @@ import java.util.List;
 import java.util.Set;
 
 import mekanism.api.Coord4D;
+import mekanism.api.MekanismConfig.general;
 import net.minecraft.nbt.NBTTagCompound;
 import net.minecraft.nbt.NBTTagList;
 import net.minecraft.tileentity.TileEntity;
@@ -69,8 +70,10 @@ public class FrequencyManager
 		{
 			if(freq.equals(iterFreq))
 			{
-				iterFreq.activeCoords.add(coord);
-				dataHandler.markDirty();
+				if(iterFreq.activeCoords.add(coord))
+				{
+					dataHandler.markDirty();
+				}
 				
 				return iterFreq;
 			}
@@ -128,12 +131,19 @@ public class FrequencyManager
 		return amount;
 	}
 	
+	/**
+	 * Removes a location from every frequency it is active on. Frequency handlers call this when they are invalidated or
+	 * their chunk unloads, so the active locations stay current without having to be checked every tick.
+	 * @param coord - location to remove
+	 */
 	public void deactivate(Coord4D coord)
 	{
 		for(Frequency freq : frequencies)
 		{
-			freq.activeCoords.remove(coord);
-			dataHandler.markDirty();
+			if(freq.activeCoords.remove(coord))
+			{
+				dataHandler.markDirty();
+			}
 		}
 	}
 	
@@ -234,13 +244,21 @@ public class FrequencyManager
 			load(world);
 		}
 		
-		for(FrequencyManager manager : managers)
+		if(general.frequencyAuditInterval > 0 && world.getTotalWorldTime() % general.frequencyAuditInterval == 0)
 		{
-			manager.tickSelf(world);
+			for(FrequencyManager manager : managers)
+			{
+				manager.audit(world);
+			}
 		}
 	}
 
-	public void tickSelf(World world)
+	/**
+	 * Removes active locations in a world that no longer hold a handler on the frequency. Handlers deactivate themselves
+	 * when they unload or are invalidated, so this only catches anything that was missed, and runs every few seconds.
+	 * @param world - world to audit
+	 */
+	public void audit(World world)
 	{
 		for(Frequency iterFreq : frequencies)
 		{
@@ -1,6 +1,5 @@
 package mekanism.common.item;
 
-import java.util.ArrayList;
 import java.util.List;
 
 import mekanism.api.Coord4D;
@@ -257,7 +256,7 @@ public class ItemBlockBasic extends ItemBlock implements IEnergizedItem, ITierIt
 
 				if(!world.isRemote)
 				{
-					Mekanism.packetHandler.sendToReceivers(new TileEntityMessage(Coord4D.get(tileEntity), tileEntity.getNetworkedData(new ArrayList<Object>())), new Range4D(Coord4D.get(tileEntity)));
+					Mekanism.packetHandler.sendToReceivers(new TileEntityMessage(Coord4D.get(tileEntity), tileEntity), new Range4D(Coord4D.get(tileEntity)));
 				}
 			}
 			else if(type == BasicBlockType.INDUCTION_PROVIDER)
@@ -267,7 +266,7 @@ public class ItemBlockBasic extends ItemBlock implements IEnergizedItem, ITierIt
 
 				if(!world.isRemote)
 				{
-					Mekanism.packetHandler.sendToReceivers(new TileEntityMessage(Coord4D.get(tileEntity), tileEntity.getNetworkedData(new ArrayList<Object>())), new Range4D(Coord4D.get(tileEntity)));
+					Mekanism.packetHandler.sendToReceivers(new TileEntityMessage(Coord4D.get(tileEntity), tileEntity), new Range4D(Coord4D.get(tileEntity)));
 				}
 			}
 
@@ -3,7 +3,6 @@ package mekanism.common.item;
 import ic2.api.item.IElectricItemManager;
 import ic2.api.item.ISpecialElectricItem;
 
-import java.util.ArrayList;
 import java.util.List;
 
 import mekanism.api.Coord4D;
@@ -156,7 +155,7 @@ public class ItemBlockEnergyCube extends ItemBlock implements IEnergizedItem, IS
 
 			if(!world.isRemote)
 			{
-				Mekanism.packetHandler.sendToReceivers(new TileEntityMessage(Coord4D.get(tileEntity), tileEntity.getNetworkedData(new ArrayList())), new Range4D(Coord4D.get(tileEntity)));
+				Mekanism.packetHandler.sendToReceivers(new TileEntityMessage(Coord4D.get(tileEntity), tileEntity), new Range4D(Coord4D.get(tileEntity)));
 			}
 		}
 
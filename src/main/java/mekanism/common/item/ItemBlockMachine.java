@@ -3,7 +3,6 @@ package mekanism.common.item;
 import ic2.api.item.IElectricItemManager;
 import ic2.api.item.ISpecialElectricItem;
 
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 
@@ -387,7 +386,7 @@ public class ItemBlockMachine extends ItemBlock implements IEnergizedItem, ISpec
 				factory.secondaryEnergyPerTick = factory.getSecondaryEnergyPerTick(recipeType);
 				world.notifyNeighborsOfStateChange(pos, tileEntity.getBlockType());
 				
-				Mekanism.packetHandler.sendToReceivers(new TileEntityMessage(Coord4D.get(tileEntity), tileEntity.getNetworkedData(new ArrayList<Object>())), new Range4D(Coord4D.get(tileEntity)));
+				Mekanism.packetHandler.sendToReceivers(new TileEntityMessage(Coord4D.get(tileEntity), tileEntity), new Range4D(Coord4D.get(tileEntity)));
 			}
 
 			if(tileEntity instanceof ISustainedTank)
@@ -1,6 +1,5 @@
 package mekanism.common.item;
 
-import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Random;
@@ -102,7 +101,7 @@ public class ItemConfigurator extends ItemEnergized implements IMekWrench, ITool
 									if(config instanceof TileEntityBasicBlock)
 									{
 										TileEntityBasicBlock tileEntity = (TileEntityBasicBlock)config;
-										Mekanism.packetHandler.sendToReceivers(new TileEntityMessage(Coord4D.get(tileEntity), tileEntity.getNetworkedData(new ArrayList())), new Range4D(Coord4D.get(tileEntity)));
+										Mekanism.packetHandler.sendToReceivers(new TileEntityMessage(Coord4D.get(tileEntity), tileEntity), new Range4D(Coord4D.get(tileEntity)));
 									}
 								}
 								else {
@@ -5,6 +5,7 @@ import java.util.List;
 import java.util.Map;
 
 import mekanism.api.EnumColor;
+import mekanism.common.Mekanism;
 import mekanism.common.util.ItemDataUtils;
 import mekanism.common.util.LangUtils;
 import net.minecraft.client.renderer.block.model.ModelResourceLocation;
@@ -53,6 +54,11 @@ public class ItemWalkieTalkie extends ItemMekanism
 		{
 			setOn(itemStack, !getOn(itemStack));
 			
+			if(!world.isRemote && Mekanism.voiceManager != null && Mekanism.voiceManager.running)
+			{
+				Mekanism.voiceManager.updatePlayer(player, true);
+			}
+			
 			return new ActionResult(EnumActionResult.SUCCESS, itemStack);
 		}
 
@@ -1,5 +1,6 @@
 package mekanism.common.multiblock;
 
+import mekanism.api.Coord4D;
 import net.minecraft.entity.player.EntityPlayer;
 import net.minecraft.item.ItemStack;
 import net.minecraft.util.EnumHand;
@@ -11,4 +12,11 @@ public interface IMultiblock<T extends SynchronizedData<T>>
 	public boolean onActivate(EntityPlayer player, EnumHand hand, ItemStack stack);
 	
 	public void doUpdate();
+	
+	/**
+	 * Updates the multiblock after the block at a location, or one of the blocks next to it, has changed. If the structure
+	 * is formed and the change leaves it as it was, the full update is skipped.
+	 * @param changed - location whose block or neighbours changed
+	 */
+	public void doUpdate(Coord4D changed);
 }
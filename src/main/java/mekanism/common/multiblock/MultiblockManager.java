@@ -7,6 +7,7 @@ import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
 
+import mekanism.api.Chunk3D;
 import mekanism.api.Coord4D;
 import mekanism.common.tile.TileEntityMultiblock;
 import net.minecraft.tileentity.TileEntity;
@@ -21,6 +22,9 @@ public class MultiblockManager<T extends SynchronizedData<T>>
 	/** A map containing references to all multiblock inventory caches. */
 	public Map<String, MultiblockCache<T>> inventories = new HashMap<String, MultiblockCache<T>>();
 	
+	/** The inventory ID each cached location belongs to, by the chunk the location is in. */
+	private Map<Chunk3D, Map<Coord4D, String>> cachedLocations = new HashMap<Chunk3D, Map<Coord4D, String>>();
+	
 	public MultiblockManager(String s)
 	{
 		name = s;
@@ -39,6 +43,18 @@ public class MultiblockManager<T extends SynchronizedData<T>>
 		
 		for(Coord4D obj : inventories.get(id).locations)
 		{
+			Map<Coord4D, String> chunkLocations = cachedLocations.get(new Chunk3D(obj));
+			
+			if(chunkLocations != null && id.equals(chunkLocations.get(obj)))
+			{
+				chunkLocations.remove(obj);
+				
+				if(chunkLocations.isEmpty())
+				{
+					cachedLocations.remove(new Chunk3D(obj));
+				}
+			}
+			
 			TileEntityMultiblock<T> tileEntity = (TileEntityMultiblock<T>)obj.getTileEntity(world);
 
 			if(tileEntity != null)
@@ -62,58 +78,88 @@ public class MultiblockManager<T extends SynchronizedData<T>>
 		return UUID.randomUUID().toString();
 	}
 	
-	public static void tick(World world)
+	/**
+	 * Removes the cached locations in a chunk that has unloaded. The tiles there keep their cache in NBT, and add themselves
+	 * back when the chunk loads again.
+	 * @param chunk - chunk that unloaded
+	 */
+	public static void onChunkUnload(Chunk3D chunk)
 	{
 		for(MultiblockManager manager : managers)
 		{
-			manager.tickSelf(world);
+			manager.removeLocations(chunk);
 		}
 	}
-
-	public void tickSelf(World world)
+	
+	/**
+	 * Removes the cached locations in a dimension that has unloaded.
+	 * @param dimensionId - dimension that unloaded
+	 */
+	public static void onDimensionUnload(int dimensionId)
 	{
-		ArrayList<String> idsToKill = new ArrayList<String>();
-		HashMap<String, HashSet<Coord4D>> tilesToKill = new HashMap<String, HashSet<Coord4D>>();
-
-		for(Map.Entry<String, MultiblockCache<T>> entry : inventories.entrySet())
+		for(MultiblockManager manager : managers)
 		{
-			String inventoryID = entry.getKey();
-
-			for(Coord4D obj : entry.getValue().locations)
+			for(Chunk3D chunk : new ArrayList<Chunk3D>(manager.cachedLocations.keySet()))
 			{
-				if(obj.dimensionId == world.provider.getDimension() && obj.exists(world))
+				if(chunk.dimensionId == dimensionId)
 				{
-					TileEntity tileEntity = obj.getTileEntity(world);
-
-					if(!(tileEntity instanceof TileEntityMultiblock) || ((TileEntityMultiblock)tileEntity).getManager() != this || (getStructureId(((TileEntityMultiblock<?>)tileEntity)) != null && getStructureId(((TileEntityMultiblock)tileEntity)) != inventoryID))
-					{
-						if(!tilesToKill.containsKey(inventoryID))
-						{
-							tilesToKill.put(inventoryID, new HashSet<Coord4D>());
-						}
-
-						tilesToKill.get(inventoryID).add(obj);
-					}
+					manager.removeLocations(chunk);
 				}
 			}
-
-			if(entry.getValue().locations.isEmpty())
+		}
+	}
+	
+	/**
+	 * Removes a location from the cache it is in, used when the multiblock tile there is invalidated. Caches left without
+	 * any locations are dropped.
+	 * @param coord - location to remove
+	 */
+	public void removeLocation(Coord4D coord)
+	{
+		Chunk3D chunk = new Chunk3D(coord);
+		Map<Coord4D, String> chunkLocations = cachedLocations.get(chunk);
+		
+		if(chunkLocations != null)
+		{
+			String inventoryID = chunkLocations.remove(coord);
+			
+			if(chunkLocations.isEmpty())
+			{
+				cachedLocations.remove(chunk);
+			}
+			
+			if(inventoryID != null)
 			{
-				idsToKill.add(inventoryID);
+				removeFromCache(inventoryID, coord);
 			}
 		}
-
-		for(Map.Entry<String, HashSet<Coord4D>> entry : tilesToKill.entrySet())
+	}
+	
+	private void removeLocations(Chunk3D chunk)
+	{
+		Map<Coord4D, String> chunkLocations = cachedLocations.remove(chunk);
+		
+		if(chunkLocations != null)
 		{
-			for(Coord4D obj : entry.getValue())
+			for(Map.Entry<Coord4D, String> entry : chunkLocations.entrySet())
 			{
-				inventories.get(entry.getKey()).locations.remove(obj);
+				removeFromCache(entry.getValue(), entry.getKey());
 			}
 		}
-
-		for(String inventoryID : idsToKill)
+	}
+	
+	private void removeFromCache(String inventoryID, Coord4D coord)
+	{
+		MultiblockCache<T> cache = inventories.get(inventoryID);
+		
+		if(cache != null)
 		{
-			inventories.remove(inventoryID);
+			cache.locations.remove(coord);
+			
+			if(cache.locations.isEmpty())
+			{
+				inventories.remove(inventoryID);
+			}
 		}
 	}
 	
@@ -134,15 +180,33 @@ public class MultiblockManager<T extends SynchronizedData<T>>
 	
 	public void updateCache(TileEntityMultiblock<T> tile)
 	{
+		Coord4D coord = Coord4D.get(tile);
+		Chunk3D chunk = new Chunk3D(coord);
+		Map<Coord4D, String> chunkLocations = cachedLocations.get(chunk);
+		
+		if(chunkLocations == null)
+		{
+			chunkLocations = new HashMap<Coord4D, String>();
+			cachedLocations.put(chunk, chunkLocations);
+		}
+		
+		String prevID = chunkLocations.put(coord, tile.cachedID);
+		
+		//A tile that has joined another structure no longer belongs to its old cache
+		if(prevID != null && !prevID.equals(tile.cachedID))
+		{
+			removeFromCache(prevID, coord);
+		}
+		
 		if(!inventories.containsKey(tile.cachedID))
 		{
-			tile.cachedData.locations.add(Coord4D.get(tile));
+			tile.cachedData.locations.add(coord);
 			inventories.put(tile.cachedID, tile.cachedData);
 
 			return;
 		}
 
-		inventories.get(tile.cachedID).locations.add(Coord4D.get(tile));
+		inventories.get(tile.cachedID).locations.add(coord);
 	}
 	
 	public static void reset()
@@ -150,6 +214,7 @@ public class MultiblockManager<T extends SynchronizedData<T>>
 		for(MultiblockManager manager : managers)
 		{
 			manager.inventories.clear();
+			manager.cachedLocations.clear();
 		}
 	}
 }
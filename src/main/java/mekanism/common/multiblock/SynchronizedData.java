@@ -1,5 +1,6 @@
 package mekanism.common.multiblock;
 
+import java.util.BitSet;
 import java.util.HashSet;
 import java.util.Set;
 
@@ -29,6 +30,9 @@ public abstract class SynchronizedData<T extends SynchronizedData<T>>
 	public Coord4D minLocation;
 	public Coord4D maxLocation;
 	
+	/** Non-air blocks inside the structure when it formed, indexed by their x, y and z offsets from minLocation in that order. */
+	public BitSet innerBlocks;
+	
 	public boolean destroyed;
 	
 	public Set<Coord4D> internalLocations = new HashSet<Coord4D>();
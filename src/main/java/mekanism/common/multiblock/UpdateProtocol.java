@@ -1,6 +1,9 @@
 package mekanism.common.multiblock;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Deque;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
@@ -15,6 +18,9 @@ import net.minecraft.world.World;
 
 public abstract class UpdateProtocol<T extends SynchronizedData<T>>
 {
+	/** Order neighbours are walked in when looking for a structure's corner, towards the minimum corner first. */
+	private static final EnumFacing[] SEARCH_ORDER = {EnumFacing.DOWN, EnumFacing.NORTH, EnumFacing.WEST, EnumFacing.UP, EnumFacing.SOUTH, EnumFacing.EAST};
+
 	/** The multiblock nodes that have already been iterated over. */
 	public Set<Coord4D> iteratedNodes = new HashSet<Coord4D>();
 	
@@ -32,207 +38,235 @@ public abstract class UpdateProtocol<T extends SynchronizedData<T>>
 	}
 
 	/**
-	 * Recursively loops through each node connected to the given TileEntity.
-	 * @param tile - the TileEntity to loop over
+	 * Walks the nodes connected to the given location, without recursing, until one is found that is the minimum corner of
+	 * a valid structure holding the pointer. Nodes are packed into longs while walking, and downward, northward and westward
+	 * neighbours are tried first, so a well-formed structure is usually found after a walk straight to its corner.
+	 * @param coord - location to start from
 	 */
 	public void loopThrough(Coord4D coord)
 	{
-		World worldObj = pointer.getWorld();
+		Set<Long> visited = new HashSet<Long>();
+		Deque<Long> stack = new ArrayDeque<Long>();
 
-		int origX = coord.xCoord, origY = coord.yCoord, origZ = coord.zCoord;
+		long start = coord.getPos().toLong();
 
-		boolean isCorner = true;
-		boolean isHollow = true;
-		boolean rightBlocks = true;
-		boolean rightFrame = true;
+		visited.add(start);
+		stack.push(start);
 
-		Set<Coord4D> locations = new HashSet<Coord4D>();
+		while(!stack.isEmpty())
+		{
+			Coord4D node = new Coord4D(BlockPos.fromLong(stack.pop()), pointer.getWorld());
 
-		int xmin = 0, xmax = 0, ymin = 0, ymax = 0, zmin = 0, zmax = 0;
+			structureFound = checkCorner(node);
 
-		int x = 0, y = 0, z = 0;
+			if(structureFound != null)
+			{
+				return;
+			}
 
-		int volume = 0;
+			innerNodes.clear();
+			iteratedNodes.add(node);
 
-		if((isViableNode(origX + 1, origY, origZ) && isViableNode(origX - 1, origY, origZ)) ||
-				(isViableNode(origX, origY + 1, origZ) && isViableNode(origX, origY - 1, origZ)) ||
-				(isViableNode(origX, origY, origZ + 1) && isViableNode(origX, origY, origZ - 1)))
-		{
-			isCorner = false;
-		}
+			if(iteratedNodes.size() > 2048)
+			{
+				return;
+			}
 
-		if(isCorner)
-		{
-			if(isViableNode(origX+1, origY, origZ))
+			//Pushed in reverse, so the last side pushed is the first one walked
+			for(int i = SEARCH_ORDER.length-1; i >= 0; i--)
 			{
-				xmin = 0;
+				BlockPos pos = node.getPos().offset(SEARCH_ORDER[i]);
+				long key = pos.toLong();
 
-				while(isViableNode(origX+x+1, origY, origZ))
+				if(!visited.contains(key) && isViableNode(pos))
 				{
-					x++;
+					visited.add(key);
+					stack.push(key);
 				}
-
-				xmax = x;
 			}
-			else {
-				xmax = 0;
+		}
+	}
 
-				while(isViableNode(origX+x-1, origY, origZ))
-				{
-					x--;
-				}
+	/**
+	 * Checks whether the given node is the minimum corner of a valid structure that holds the pointer. Anything else is
+	 * rejected from the extents alone, before the bounding box is scanned.
+	 * @param coord - location to check
+	 * @return the new structure, or null if this isn't its corner or it can't form
+	 */
+	private T checkCorner(Coord4D coord)
+	{
+		int origX = coord.xCoord, origY = coord.yCoord, origZ = coord.zCoord;
 
-				xmin = x;
-			}
+		if((isViableNode(origX + 1, origY, origZ) && isViableNode(origX - 1, origY, origZ)) ||
+				(isViableNode(origX, origY + 1, origZ) && isViableNode(origX, origY - 1, origZ)) ||
+				(isViableNode(origX, origY, origZ + 1) && isViableNode(origX, origY, origZ - 1)))
+		{
+			return null;
+		}
 
-			if(isViableNode(origX, origY+1, origZ))
-			{
-				ymin = 0;
+		//Only the minimum corner is used for the calculation, so the structure has to extend in positive directions
+		if(!isViableNode(origX+1, origY, origZ) || !isViableNode(origX, origY+1, origZ) || !isViableNode(origX, origY, origZ+1))
+		{
+			return null;
+		}
 
-				while(isViableNode(origX, origY+y+1, origZ))
-				{
-					y++;
-				}
+		int xmax = 1, ymax = 1, zmax = 1;
 
-				ymax = y;
-			}
-			else {
-				ymax = 0;
+		while(isViableNode(origX+xmax+1, origY, origZ) && xmax < 17)
+		{
+			xmax++;
+		}
 
-				while(isViableNode(origX, origY+y-1 ,origZ))
-				{
-					y--;
-				}
+		while(isViableNode(origX, origY+ymax+1, origZ) && ymax < 17)
+		{
+			ymax++;
+		}
 
-				ymin = y;
-			}
+		while(isViableNode(origX, origY, origZ+zmax+1) && zmax < 17)
+		{
+			zmax++;
+		}
 
-			if(isViableNode(origX, origY, origZ+1))
-			{
-				zmin = 0;
+		//A line of nodes longer than 18 blocks can't be the edge of a structure
+		if(isViableNode(origX+xmax+1, origY, origZ) || isViableNode(origX, origY+ymax+1, origZ) || isViableNode(origX, origY, origZ+zmax+1))
+		{
+			return null;
+		}
 
-				while(isViableNode(origX, origY, origZ+z+1))
-				{
-					z++;
-				}
+		if(xmax < 2 || ymax < 2 || zmax < 2)
+		{
+			return null;
+		}
 
-				zmax = z;
-			}
-			else {
-				zmax = 0;
+		BlockPos pointerPos = pointer.getPos();
 
-				while(isViableNode(origX, origY, origZ+z-1))
-				{
-					z--;
-				}
+		if(pointerPos.getX() < origX || pointerPos.getX() > origX+xmax || pointerPos.getY() < origY || pointerPos.getY() > origY+ymax ||
+				pointerPos.getZ() < origZ || pointerPos.getZ() > origZ+zmax)
+		{
+			return null;
+		}
 
-				zmin = z;
-			}
+		Set<Coord4D> locations = new HashSet<Coord4D>();
+		BitSet innerBlocks = new BitSet();
 
-			for(x = xmin; x <= xmax; x++)
+		for(int x = 0; x <= xmax; x++)
+		{
+			for(int y = 0; y <= ymax; y++)
 			{
-				for(y = ymin; y <= ymax; y++)
+				for(int z = 0; z <= zmax; z++)
 				{
-					for(z = zmin; z <= zmax; z++)
+					if(x == 0 || x == xmax || y == 0 || y == ymax || z == 0 || z == zmax)
 					{
-						if(x == xmin || x == xmax || y == ymin || y == ymax || z == zmin || z == zmax)
+						if(!isViableNode(origX+x, origY+y, origZ+z))
 						{
-							if(!isViableNode(origX+x, origY+y, origZ+z))
-							{
-								rightBlocks = false;
-								break;
-							}
-							else if(isFrame(coord.translate(x, y, z), origX+xmin, origX+xmax, origY+ymin, origY+ymax, origZ+zmin, origZ+zmax) && !isValidFrame(origX+x, origY+y, origZ+z))
-							{
-								rightFrame = false;
-								break;
-							}
-							else {
-								locations.add(coord.translate(x, y, z));
-							}
+							return null;
 						}
-						else {
-							if(!isValidInnerNode(origX+x, origY+y, origZ+z))
-							{
-								isHollow = false;
-								break;
-							}
-							else {
-								if(!isAir(origX+x, origY+y, origZ+z))
-								{
-									innerNodes.add(new Coord4D(origX+x, origY+y, origZ+z, pointer.getWorld().provider.getDimension()));
-								}
-							}
-
-							volume++;
+						else if(isFrame(coord.translate(x, y, z), origX, origX+xmax, origY, origY+ymax, origZ, origZ+zmax) && !isValidFrame(origX+x, origY+y, origZ+z))
+						{
+							return null;
 						}
+
+						locations.add(coord.translate(x, y, z));
 					}
-					
-					if(!isHollow || !rightBlocks || !rightFrame)
-					{
-						break;
+					else {
+						if(!isValidInnerNode(origX+x, origY+y, origZ+z))
+						{
+							return null;
+						}
+						else if(!isAir(origX+x, origY+y, origZ+z))
+						{
+							innerNodes.add(new Coord4D(origX+x, origY+y, origZ+z, coord.dimensionId));
+							innerBlocks.set(((x*(ymax+1))+y)*(zmax+1)+z);
+						}
 					}
 				}
-				
-				if(!isHollow || !rightBlocks || !rightFrame)
-				{
-					break;
-				}
 			}
 		}
 
-		volume += locations.size();
+		T structure = getNewStructure();
+		structure.locations = locations;
+		structure.innerBlocks = innerBlocks;
+		structure.volLength = xmax+1;
+		structure.volHeight = ymax+1;
+		structure.volWidth = zmax+1;
+		structure.volume = structure.volLength*structure.volHeight*structure.volWidth;
+		structure.renderLocation = coord.translate(0, 1, 0);
+		structure.minLocation = coord;
+		structure.maxLocation = coord.translate(xmax, ymax, zmax);
+
+		onStructureCreated(structure, origX, origY, origZ, 0, xmax, 0, ymax, 0, zmax);
+
+		if(structure.locations.contains(Coord4D.get(pointer)) && canForm(structure))
+		{
+			return structure;
+		}
+
+		return null;
+	}
+
+	/**
+	 * Checks whether the pointer's structure is unaffected by a change at or next to the given location, by looking only
+	 * at that location and its neighbours instead of scanning the whole structure again. A casing face stays valid if it
+	 * is still a node, and the interior if what was air is still air; anything else, such as a block inside being broken or
+	 * replaced, needs a full update.
+	 * @param changed - location whose block or neighbours changed
+	 * @return true if the structure is known to be unchanged, false if a full update is needed
+	 */
+	public boolean revalidate(Coord4D changed)
+	{
+		T structure = pointer.structure;
+
+		if(structure == null || structure.destroyed || structure.innerBlocks == null || structure.minLocation == null || structure.maxLocation == null)
+		{
+			return false;
+		}
+
+		if(!isUnchanged(structure, changed.xCoord, changed.yCoord, changed.zCoord))
+		{
+			return false;
+		}
 
-		if(Math.abs(xmax-xmin)+1 <= 18 && Math.abs(ymax-ymin)+1 <= 18 && Math.abs(zmax-zmin)+1 <= 18)
+		for(EnumFacing side : EnumFacing.VALUES)
 		{
-			if(rightBlocks && rightFrame && isHollow && isCorner)
+			if(!isUnchanged(structure, changed.xCoord+side.getFrontOffsetX(), changed.yCoord+side.getFrontOffsetY(), changed.zCoord+side.getFrontOffsetZ()))
 			{
-				T structure = getNewStructure();
-				structure.locations = locations;
-				structure.volLength = Math.abs(xmax-xmin)+1;
-				structure.volHeight = Math.abs(ymax-ymin)+1;
-				structure.volWidth = Math.abs(zmax-zmin)+1;
-				structure.volume = structure.volLength*structure.volHeight*structure.volWidth;
-				structure.renderLocation = coord.translate(0, 1, 0);
-				structure.minLocation = coord.translate(xmin, ymin, zmin);
-				structure.maxLocation = coord.translate(xmax, ymax, zmax);
-				
-				if(structure.volLength >= 3 && structure.volHeight >= 3 && structure.volWidth >= 3)
-				{
-					onStructureCreated(structure, origX, origY, origZ, xmin, xmax, ymin, ymax, zmin, zmax);
-	
-					if(structure.locations.contains(Coord4D.get(pointer)) && isCorrectCorner(coord, origX+xmin, origY+ymin, origZ+zmin))
-					{
-						if(canForm(structure))
-						{
-							structureFound = structure;
-							return;
-						}
-					}
-				}
+				return false;
 			}
 		}
 
-		innerNodes.clear();
-		iteratedNodes.add(coord);
-		
-		if(iteratedNodes.size() > 2048)
+		return true;
+	}
+
+	private boolean isUnchanged(T structure, int x, int y, int z)
+	{
+		Coord4D min = structure.minLocation, max = structure.maxLocation;
+
+		if(x < min.xCoord || x > max.xCoord || y < min.yCoord || y > max.yCoord || z < min.zCoord || z > max.zCoord)
 		{
-			return;
+			//Nodes touching the structure from outside are walked into by a full update, so only other blocks can be skipped
+			return !isViableNode(new BlockPos(x, y, z));
 		}
 
-		for(EnumFacing side : EnumFacing.VALUES)
+		if(x == min.xCoord || x == max.xCoord || y == min.yCoord || y == max.yCoord || z == min.zCoord || z == max.zCoord)
 		{
-			Coord4D sideCoord = coord.offset(side);
-			
-			if(isViableNode(sideCoord.getPos()))
+			if(!isViableNode(x, y, z))
 			{
-				if(!iteratedNodes.contains(sideCoord))
-				{
-					loopThrough(sideCoord);
-				}
+				return false;
+			}
+
+			if(isFrame(new Coord4D(x, y, z, min.dimensionId), min.xCoord, max.xCoord, min.yCoord, max.yCoord, min.zCoord, max.zCoord) && !isValidFrame(x, y, z))
+			{
+				return false;
 			}
+
+			TileEntity tile = pointer.getWorld().getTileEntity(new BlockPos(x, y, z));
+
+			return !(tile instanceof TileEntityMultiblock) || ((TileEntityMultiblock)tile).structure == structure;
 		}
+
+		int index = (((x-min.xCoord)*structure.volHeight)+(y-min.yCoord))*structure.volWidth+(z-min.zCoord);
+
+		return !structure.innerBlocks.get(index) && isValidInnerNode(x, y, z) && isAir(x, y, z);
 	}
 	
 	protected boolean canForm(T structure)
@@ -344,25 +378,6 @@ public abstract class UpdateProtocol<T extends SynchronizedData<T>>
 		return false;
 	}
 
-	/**
-	 * If the block at the specified location is on the minimum of all angles of this multiblock structure, and the one to use for the
-	 * actual calculation.
-	 * @param obj - location to check
-	 * @param xmin - minimum x value
-	 * @param ymin - minimum y value
-	 * @param zmin - minimum z value
-	 * @return
-	 */
-	private boolean isCorrectCorner(Coord4D obj, int xmin, int ymin, int zmin)
-	{
-		if(obj.xCoord == xmin && obj.yCoord == ymin && obj.zCoord == zmin)
-		{
-			return true;
-		}
-
-		return false;
-	}
-
 	/**
 	 * Whether or not the block at the specified location is considered a frame on the multiblock structure.
 	 * @param obj - location to check
@@ -616,20 +631,24 @@ public abstract class UpdateProtocol<T extends SynchronizedData<T>>
 		
 		public void loop(Coord4D pos)
 		{
-			iterated.add(pos);
+			Deque<Coord4D> stack = new ArrayDeque<Coord4D>();
 			
-			if(!checker.shouldContinue(iterated.size()))
-			{
-				return;
-			}
+			iterated.add(pos);
+			stack.push(pos);
 			
-			for(EnumFacing side : EnumFacing.VALUES)
+			while(!stack.isEmpty() && checker.shouldContinue(iterated.size()))
 			{
-				Coord4D coord = pos.offset(side);
+				Coord4D node = stack.pop();
 				
-				if(!iterated.contains(coord) && checker.isValid(coord))
+				for(EnumFacing side : EnumFacing.VALUES)
 				{
-					loop(coord);
+					Coord4D coord = node.offset(side);
+					
+					if(!iterated.contains(coord) && checker.isValid(coord))
+					{
+						iterated.add(coord);
+						stack.push(coord);
+					}
 				}
 			}
 		}
@@ -230,7 +230,7 @@ public class MultipartTransporter extends MultipartTransmitter<IInventory, Inven
 	{
 		needsSync.add(stack);
 
-		if(stack.pathType != Path.NONE)
+		if(stack.pathType != Path.NONE || stack.pathPending)
 		{
 			if(!TransporterManager.didEmit(stack.itemStack, stack.recalculatePath(this, 0)))
 			{
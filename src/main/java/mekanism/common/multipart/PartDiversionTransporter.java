@@ -131,7 +131,7 @@ public class PartDiversionTransporter extends PartLogisticalTransporter
 		notifyTileChange();
 		player.addChatMessage(new TextComponentString(EnumColor.DARK_BLUE + "[Mekanism]" + EnumColor.GREY + " " + LangUtils.localize("tooltip.configurator.toggleDiverter") + ": " + EnumColor.RED + description));
 		Coord4D coord = new Coord4D(getPos(), getWorld());
-		Mekanism.packetHandler.sendToReceivers(new TileEntityMessage(coord, getNetworkedData(new ArrayList<Object>())), new Range4D(coord));
+		Mekanism.packetHandler.sendToReceivers(new TileEntityMessage(coord, this), new Range4D(coord));
 
 		return EnumActionResult.SUCCESS;
 	}
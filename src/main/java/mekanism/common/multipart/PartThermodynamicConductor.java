@@ -121,7 +121,7 @@ public class PartThermodynamicConductor extends PartTransmitter<IHeatTransfer, H
 	public void sendTemp()
 	{
 		Coord4D coord = new Coord4D(getPos(), getWorld());
-		Mekanism.packetHandler.sendToReceivers(new TileEntityMessage(coord, getNetworkedData(new ArrayList())), new Range4D(coord));
+		Mekanism.packetHandler.sendToReceivers(new TileEntityMessage(coord, this), new Range4D(coord));
 	}
 	
 	@Override
@@ -193,6 +193,11 @@ public class PartThermodynamicConductor extends PartTransmitter<IHeatTransfer, H
 	@Override
 	public void transferHeatTo(double heat)
 	{
+		if(heat != 0 && heatToAbsorb == 0 && !getWorld().isRemote && getTransmitter().hasTransmitterNetwork())
+		{
+			getTransmitter().getTransmitterNetwork().onHeated(this);
+		}
+		
 		heatToAbsorb += heat;
 	}
 
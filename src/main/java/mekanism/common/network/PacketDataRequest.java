@@ -2,8 +2,6 @@ package mekanism.common.network;
 
 import io.netty.buffer.ByteBuf;
 
-import java.util.ArrayList;
-
 import mekanism.api.Coord4D;
 import mekanism.api.transmitters.IGridTransmitter;
 import mekanism.api.util.CapabilityUtils;
@@ -13,6 +11,7 @@ import mekanism.common.base.ITileNetwork;
 import mekanism.common.capabilities.Capabilities;
 import mekanism.common.network.PacketDataRequest.DataRequestMessage;
 import mekanism.common.network.PacketTileEntity.TileEntityMessage;
+import mekanism.common.tile.TileEntityBasicBlock;
 import mekanism.common.tile.TileEntityMultiblock;
 import net.minecraft.entity.player.EntityPlayer;
 import net.minecraft.entity.player.EntityPlayerMP;
@@ -43,6 +42,11 @@ public class PacketDataRequest implements IMessageHandler<DataRequestMessage, IM
 					{
 						((TileEntityMultiblock)tileEntity).sendStructure = true;
 					}
+
+					if(tileEntity instanceof TileEntityBasicBlock)
+					{
+						((TileEntityBasicBlock)tileEntity).requestResync(player);
+					}
 		
 					if(CapabilityUtils.hasCapability(tileEntity, Capabilities.GRID_TRANSMITTER_CAPABILITY, null))
 					{
@@ -60,7 +64,7 @@ public class PacketDataRequest implements IMessageHandler<DataRequestMessage, IM
 					{
 						ITileNetwork network = CapabilityUtils.getCapability(tileEntity, Capabilities.TILE_NETWORK_CAPABILITY, null);
 						
-						Mekanism.packetHandler.sendTo(new TileEntityMessage(Coord4D.get(tileEntity), network.getNetworkedData(new ArrayList<Object>())), (EntityPlayerMP)player);
+						Mekanism.packetHandler.sendTo(new TileEntityMessage(Coord4D.get(tileEntity), network), (EntityPlayerMP)player);
 					}
 				}
 			}
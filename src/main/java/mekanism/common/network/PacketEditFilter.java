@@ -56,7 +56,7 @@ public class PacketEditFilter implements IMessageHandler<EditFilterMessage, IMes
 		
 						for(EntityPlayer iterPlayer : sorter.playersUsing)
 						{
-							Mekanism.packetHandler.sendTo(new TileEntityMessage(Coord4D.get(sorter), sorter.getFilterPacket(new ArrayList())), (EntityPlayerMP)iterPlayer);
+							Mekanism.packetHandler.sendTo(new TileEntityMessage(Coord4D.get(sorter), sorter, sorter.getFilterPacket(new ArrayList())), (EntityPlayerMP)iterPlayer);
 						}
 					}
 					else if(message.type == 1 && message.coord4D.getTileEntity(worldServer) instanceof TileEntityDigitalMiner)
@@ -76,10 +76,12 @@ public class PacketEditFilter implements IMessageHandler<EditFilterMessage, IMes
 						{
 							miner.filters.add(index, message.mEdited);
 						}
+
+						miner.onFiltersChanged();
 		
 						for(EntityPlayer iterPlayer : miner.playersUsing)
 						{
-							Mekanism.packetHandler.sendTo(new TileEntityMessage(Coord4D.get(miner), miner.getFilterPacket(new ArrayList())), (EntityPlayerMP)iterPlayer);
+							Mekanism.packetHandler.sendTo(new TileEntityMessage(Coord4D.get(miner), miner, miner.getFilterPacket(new ArrayList())), (EntityPlayerMP)iterPlayer);
 						}
 					}
 					else if(message.type == 2 && message.coord4D.getTileEntity(worldServer) instanceof TileEntityOredictionificator)
@@ -102,7 +104,7 @@ public class PacketEditFilter implements IMessageHandler<EditFilterMessage, IMes
 		
 						for(EntityPlayer iterPlayer : oredictionificator.playersUsing)
 						{
-							Mekanism.packetHandler.sendTo(new TileEntityMessage(Coord4D.get(oredictionificator), oredictionificator.getFilterPacket(new ArrayList())), (EntityPlayerMP)iterPlayer);
+							Mekanism.packetHandler.sendTo(new TileEntityMessage(Coord4D.get(oredictionificator), oredictionificator, oredictionificator.getFilterPacket(new ArrayList())), (EntityPlayerMP)iterPlayer);
 						}
 					}
 				}
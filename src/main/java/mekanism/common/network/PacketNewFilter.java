@@ -44,7 +44,7 @@ public class PacketNewFilter implements IMessageHandler<NewFilterMessage, IMessa
 		
 						for(EntityPlayer iterPlayer : sorter.playersUsing)
 						{
-							Mekanism.packetHandler.sendTo(new TileEntityMessage(Coord4D.get(sorter), sorter.getFilterPacket(new ArrayList())), (EntityPlayerMP)iterPlayer);
+							Mekanism.packetHandler.sendTo(new TileEntityMessage(Coord4D.get(sorter), sorter, sorter.getFilterPacket(new ArrayList())), (EntityPlayerMP)iterPlayer);
 						}
 					}
 					else if(message.type == 1 && message.coord4D.getTileEntity(worldServer) instanceof TileEntityDigitalMiner)
@@ -52,10 +52,11 @@ public class PacketNewFilter implements IMessageHandler<NewFilterMessage, IMessa
 						TileEntityDigitalMiner miner = (TileEntityDigitalMiner)message.coord4D.getTileEntity(worldServer);
 		
 						miner.filters.add(message.mFilter);
+						miner.onFiltersChanged();
 		
 						for(EntityPlayer iterPlayer : miner.playersUsing)
 						{
-							Mekanism.packetHandler.sendTo(new TileEntityMessage(Coord4D.get(miner), miner.getFilterPacket(new ArrayList())), (EntityPlayerMP)iterPlayer);
+							Mekanism.packetHandler.sendTo(new TileEntityMessage(Coord4D.get(miner), miner, miner.getFilterPacket(new ArrayList())), (EntityPlayerMP)iterPlayer);
 						}
 					}
 					else if(message.type == 2 && message.coord4D.getTileEntity(worldServer) instanceof TileEntityOredictionificator)
@@ -66,7 +67,7 @@ public class PacketNewFilter implements IMessageHandler<NewFilterMessage, IMessa
 						
 						for(EntityPlayer iterPlayer : oredictionificator.playersUsing)
 						{
-							Mekanism.packetHandler.sendTo(new TileEntityMessage(Coord4D.get(oredictionificator), oredictionificator.getFilterPacket(new ArrayList())), (EntityPlayerMP)iterPlayer);
+							Mekanism.packetHandler.sendTo(new TileEntityMessage(Coord4D.get(oredictionificator), oredictionificator, oredictionificator.getFilterPacket(new ArrayList())), (EntityPlayerMP)iterPlayer);
 						}
 					}
 				}
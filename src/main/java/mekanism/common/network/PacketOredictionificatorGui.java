@@ -146,7 +146,7 @@ public class PacketOredictionificatorGui implements IMessageHandler<Oredictionif
 	
 				for(EntityPlayer player : tile.playersUsing)
 				{
-					Mekanism.packetHandler.sendTo(new TileEntityMessage(obj, tile.getFilterPacket(new ArrayList())), (EntityPlayerMP)player);
+					Mekanism.packetHandler.sendTo(new TileEntityMessage(obj, tile, tile.getFilterPacket(new ArrayList())), (EntityPlayerMP)player);
 				}
 			}
 		}
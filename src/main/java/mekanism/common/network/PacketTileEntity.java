@@ -1,15 +1,18 @@
 package mekanism.common.network;
 
 import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
 
 import java.util.ArrayList;
 
 import mekanism.api.Coord4D;
+import mekanism.api.MekanismConfig.general;
 import mekanism.api.util.CapabilityUtils;
 import mekanism.common.PacketHandler;
 import mekanism.common.base.ITileNetwork;
 import mekanism.common.capabilities.Capabilities;
 import mekanism.common.network.PacketTileEntity.TileEntityMessage;
+import mekanism.common.tile.TileEntityBasicBlock;
 import net.minecraft.entity.player.EntityPlayer;
 import net.minecraft.server.MinecraftServer;
 import net.minecraft.tileentity.TileEntity;
@@ -40,11 +43,20 @@ public class PacketTileEntity implements IMessageHandler<TileEntityMessage, IMes
 				if(CapabilityUtils.hasCapability(tileEntity, Capabilities.TILE_NETWORK_CAPABILITY, null))
 				{
 					ITileNetwork network = CapabilityUtils.getCapability(tileEntity, Capabilities.TILE_NETWORK_CAPABILITY, null);
+					ByteBuf data = message.storedBuffer;
 					
-					try {
-						network.handlePacketData(message.storedBuffer);
-					} catch(Exception e) {
-						e.printStackTrace();
+					if(message.syncType != SyncType.PLAIN)
+					{
+						data = player.worldObj.isRemote && tileEntity instanceof TileEntityBasicBlock ? ((TileEntityBasicBlock)tileEntity).receiveSync(message.syncType, data) : null;
+					}
+					
+					if(data != null)
+					{
+						try {
+							network.handlePacketData(data);
+						} catch(Exception e) {
+							e.printStackTrace();
+						}
 					}
 					
 					message.storedBuffer.release();
@@ -58,8 +70,11 @@ public class PacketTileEntity implements IMessageHandler<TileEntityMessage, IMes
 	public static class TileEntityMessage implements IMessage
 	{
 		public Coord4D coord4D;
+		
+		public SyncType syncType = SyncType.PLAIN;
 	
-		public ArrayList<Object> parameters;
+		/** Data encoded once when the message is created, so it isn't encoded again for every player it is sent to. */
+		public ByteBuf payload;
 		
 		public ByteBuf storedBuffer = null;
 		
@@ -68,31 +83,98 @@ public class PacketTileEntity implements IMessageHandler<TileEntityMessage, IMes
 		public TileEntityMessage(Coord4D coord, ArrayList<Object> params)
 		{
 			coord4D = coord;
-			parameters = params;
+			payload = Unpooled.buffer();
+			
+			PacketHandler.encode(new Object[] {params}, payload);
+		}
+		
+		/**
+		 * Creates a message for a custom packet whose data list starts with the tile's own networked data, such as a GUI or
+		 * filter packet.
+		 * @param coord - location of the tile entity
+		 * @param tile - the tile entity
+		 * @param params - the packet's data
+		 */
+		public TileEntityMessage(Coord4D coord, TileEntityBasicBlock tile, ArrayList<Object> params)
+		{
+			coord4D = coord;
+			payload = Unpooled.buffer();
+			
+			tile.writeNetworkedData(payload, params);
+		}
+		
+		/**
+		 * Creates a message holding a tile entity's synchronized data, written straight into the buffer.
+		 * @param coord - location of the tile entity
+		 * @param network - the tile entity's network handler
+		 */
+		public TileEntityMessage(Coord4D coord, ITileNetwork network)
+		{
+			coord4D = coord;
+			payload = Unpooled.buffer();
+			
+			network.writeNetworkedData(payload);
+		}
+		
+		/**
+		 * Creates a GUI sync message from data that has already been encoded.
+		 * @param coord - location of the tile entity
+		 * @param type - whether the data is full or a delta
+		 * @param data - the encoded data
+		 */
+		public TileEntityMessage(Coord4D coord, SyncType type, ByteBuf data)
+		{
+			coord4D = coord;
+			syncType = type;
+			payload = data;
 		}
 	
 		@Override
 		public void toBytes(ByteBuf dataStream)
 		{
-			coord4D.write(dataStream);
+			PacketHandler.writeSignedVarInt(dataStream, coord4D.xCoord);
+			PacketHandler.writeVarInt(dataStream, coord4D.yCoord);
+			PacketHandler.writeSignedVarInt(dataStream, coord4D.zCoord);
+			PacketHandler.writeSignedVarInt(dataStream, coord4D.dimensionId);
+			PacketHandler.writeEnum(dataStream, syncType);
 			
-			MinecraftServer server = FMLCommonHandler.instance().getMinecraftServerInstance();
-			
-			if(server != null)
+			if(general.logPackets)
 			{
-				World world = server.worldServerForDimension(coord4D.dimensionId);
-				PacketHandler.log("Sending TileEntity packet from coordinate " + coord4D + " (" + coord4D.getTileEntity(world) + ")");
+				MinecraftServer server = FMLCommonHandler.instance().getMinecraftServerInstance();
+				
+				if(server != null)
+				{
+					World world = server.worldServerForDimension(coord4D.dimensionId);
+					PacketHandler.log("Sending TileEntity packet from coordinate " + coord4D + " (" + coord4D.getTileEntity(world) + ")");
+				}
 			}
 			
-			PacketHandler.encode(new Object[] {parameters}, dataStream);
+			dataStream.writeBytes(payload, payload.readerIndex(), payload.readableBytes());
 		}
 	
 		@Override
 		public void fromBytes(ByteBuf dataStream)
 		{
-			coord4D = Coord4D.read(dataStream);
+			int x = PacketHandler.readSignedVarInt(dataStream);
+			int y = PacketHandler.readVarInt(dataStream);
+			int z = PacketHandler.readSignedVarInt(dataStream);
+			
+			coord4D = new Coord4D(x, y, z, PacketHandler.readSignedVarInt(dataStream));
+			syncType = PacketHandler.readEnum(dataStream, SyncType.VALUES);
 			
 			storedBuffer = dataStream.copy();
 		}
 	}
+	
+	public static enum SyncType
+	{
+		/** Applied as it is. */
+		PLAIN,
+		/** A tile's full data for players with its GUI open, kept by the client as the base for later deltas. */
+		FULL,
+		/** Only the bytes that changed since the last GUI sync, see SyncDelta. */
+		DELTA;
+		
+		public static final SyncType[] VALUES = values();
+	}
 }
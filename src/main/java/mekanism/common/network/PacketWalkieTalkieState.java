@@ -1,6 +1,7 @@
 package mekanism.common.network;
 
 import io.netty.buffer.ByteBuf;
+import mekanism.common.Mekanism;
 import mekanism.common.PacketHandler;
 import mekanism.common.item.ItemWalkieTalkie;
 import mekanism.common.network.PacketWalkieTalkieState.WalkieTalkieStateMessage;
@@ -20,6 +21,11 @@ public class PacketWalkieTalkieState implements IMessageHandler<WalkieTalkieStat
 		if(itemstack != null && itemstack.getItem() instanceof ItemWalkieTalkie)
 		{
 			((ItemWalkieTalkie)itemstack.getItem()).setChannel(itemstack, message.channel);
+			
+			if(Mekanism.voiceManager != null && Mekanism.voiceManager.running)
+			{
+				Mekanism.voiceManager.updatePlayer(PacketHandler.getPlayer(context), true);
+			}
 		}
 		
 		return null;
@@ -0,0 +1,124 @@
+package mekanism.common.network;
+
+import io.netty.buffer.ByteBuf;
+
+import java.util.Arrays;
+
+import mekanism.common.PacketHandler;
+
+/**
+ * Byte-level delta between two encodings of a tile's synchronized data. As the data is positional, a run of changed
+ * bytes is in practice a changed field, so only the fields that changed since the last sync are sent. Each delta carries
+ * the hash of the data it was made against, so a client that holds something else can tell and ask for a full resync.
+ */
+public final class SyncDelta
+{
+	/** Unchanged runs shorter than this are sent anyway, as splitting the run would cost more than the bytes saved. */
+	private static final int MIN_GAP = 4;
+
+	/**
+	 * Writes the delta that turns base into data.
+	 * @param output - buffer to write to
+	 * @param base - data the receiver holds
+	 * @param data - new data
+	 * @return false if nothing changed, in which case nothing is written
+	 */
+	public static boolean write(ByteBuf output, byte[] base, byte[] data)
+	{
+		if(Arrays.equals(base, data))
+		{
+			return false;
+		}
+
+		int runs = 0;
+
+		for(int i = nextChange(base, data, 0); i < data.length; i = nextChange(base, data, runEnd(base, data, i)))
+		{
+			runs++;
+		}
+
+		output.writeInt(Arrays.hashCode(base));
+		PacketHandler.writeVarInt(output, data.length);
+		PacketHandler.writeVarInt(output, runs);
+
+		int prevEnd = 0;
+
+		for(int i = nextChange(base, data, 0); i < data.length; i = nextChange(base, data, prevEnd))
+		{
+			int end = runEnd(base, data, i);
+
+			PacketHandler.writeVarInt(output, i-prevEnd);
+			PacketHandler.writeVarInt(output, end-i);
+			output.writeBytes(data, i, end-i);
+
+			prevEnd = end;
+		}
+
+		return true;
+	}
+
+	/**
+	 * Applies a delta written by write().
+	 * @param input - buffer to read from
+	 * @param base - data this side holds
+	 * @return the new data, or null if the delta was made against different data
+	 */
+	public static byte[] apply(ByteBuf input, byte[] base)
+	{
+		if(base == null || input.readInt() != Arrays.hashCode(base))
+		{
+			return null;
+		}
+
+		byte[] data = Arrays.copyOf(base, PacketHandler.readVarInt(input));
+		int runs = PacketHandler.readVarInt(input);
+		int offset = 0;
+
+		for(int run = 0; run < runs; run++)
+		{
+			offset += PacketHandler.readVarInt(input);
+			int length = PacketHandler.readVarInt(input);
+
+			input.readBytes(data, offset, length);
+			offset += length;
+		}
+
+		return data;
+	}
+
+	private static int nextChange(byte[] base, byte[] data, int from)
+	{
+		int i = from;
+
+		while(i < data.length && i < base.length && data[i] == base[i])
+		{
+			i++;
+		}
+
+		return i;
+	}
+
+	private static int runEnd(byte[] base, byte[] data, int start)
+	{
+		int end = start;
+
+		while(end < data.length)
+		{
+			int next = nextChange(base, data, end);
+
+			if(next == end)
+			{
+				end++;
+			}
+			else if(next-end < MIN_GAP && next < data.length)
+			{
+				end = next;
+			}
+			else {
+				break;
+			}
+		}
+
+		return end;
+	}
+}
@@ -1,7 +1,11 @@
 package mekanism.common.recipe;
 
 import java.lang.reflect.Constructor;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
@@ -49,10 +53,12 @@ import mekanism.common.recipe.outputs.GasOutput;
 import mekanism.common.recipe.outputs.ItemStackOutput;
 import mekanism.common.recipe.outputs.MachineOutput;
 import mekanism.common.recipe.outputs.PressurizedOutput;
+import net.minecraft.item.Item;
 import net.minecraft.item.ItemStack;
 import net.minecraft.nbt.NBTTagCompound;
 import net.minecraftforge.fluids.Fluid;
 import net.minecraftforge.fluids.FluidStack;
+import net.minecraftforge.oredict.OreDictionary;
 
 /**
  * Class used to handle machine recipes. This is used for both adding and fetching recipes.
@@ -266,9 +272,7 @@ public final class RecipeHandler
 	{
 		if(input.isValid())
 		{
-			HashMap<InfusionInput, MetallurgicInfuserRecipe> recipes = Recipe.METALLURGIC_INFUSER.get();
-
-			MetallurgicInfuserRecipe recipe = recipes.get(input);
+			MetallurgicInfuserRecipe recipe = (MetallurgicInfuserRecipe)Recipe.METALLURGIC_INFUSER.getItemRecipe(input.inputStack, input.infuse.type, false);
 			return recipe == null ? null : recipe.copy();
 		}
 
@@ -408,7 +412,8 @@ public final class RecipeHandler
 	{
 		if(input.isValid())
 		{
-			RECIPE recipe = recipes.get(input);
+			Recipe type = Recipe.get(recipes);
+			RECIPE recipe = type != null ? (RECIPE)type.getItemRecipe(input.itemStack, input.gasType, false) : recipes.get(input);
 			return recipe == null ? null : recipe.copy();
 		}
 
@@ -490,7 +495,9 @@ public final class RecipeHandler
 	{
 		if(itemstack != null)
 		{
-			for(RECIPE recipe : recipes.values())
+			Recipe type = Recipe.get(recipes);
+			
+			for(RECIPE recipe : type != null ? (Collection<RECIPE>)type.getItemCandidates(itemstack) : recipes.values())
 			{
 				ItemStackInput required = recipe.getInput();
 
@@ -527,6 +534,13 @@ public final class RecipeHandler
 
 	public static <RECIPE extends MachineRecipe<ItemStackInput, ?, RECIPE>> RECIPE getRecipeTryWildcard(ItemStackInput input, Map<ItemStackInput, RECIPE> recipes)
 	{
+		Recipe type = Recipe.get(recipes);
+		
+		if(type != null)
+		{
+			return input.isValid() ? (RECIPE)type.getItemRecipe(input.ingredient, null, true) : null;
+		}
+		
 		RECIPE recipe = recipes.get(input);
 		
 		if(recipe == null)
@@ -562,6 +576,12 @@ public final class RecipeHandler
 		private HashMap recipes;
 		private String recipeName;
 		
+		/** Index of the recipes by their item input, replaced whenever the recipes change. */
+		private volatile RecipeIndex index;
+		
+		/** Counts changes to the recipes, so anything caching recipe lookups can tell when to drop them. */
+		private int version;
+		
 		private Class<? extends MachineInput> inputClass;
 		private Class<? extends MachineOutput> outputClass;
 		private Class<? extends MachineRecipe> recipeClass;
@@ -580,11 +600,135 @@ public final class RecipeHandler
 		public <RECIPE extends MachineRecipe<?, ?, RECIPE>> void put(RECIPE recipe)
 		{
 			recipes.put(recipe.getInput(), recipe);
+			index = null;
+			version++;
 		}
 
 		public <RECIPE extends MachineRecipe<?, ?, RECIPE>> void remove(RECIPE recipe)
 		{
 			recipes.remove(recipe.getInput());
+			index = null;
+			version++;
+		}
+		
+		public void clear()
+		{
+			recipes.clear();
+			index = null;
+			version++;
+		}
+		
+		public int getVersion()
+		{
+			return version;
+		}
+		
+		/**
+		 * Gets the recipe type a recipe map belongs to.
+		 * @param map - recipe map, as returned by get()
+		 * @return the recipe type, or null if the map isn't one of the recipe maps
+		 */
+		public static Recipe get(Map map)
+		{
+			return BY_MAP.get(map);
+		}
+		
+		/**
+		 * Finds the recipe for an item input without building an input to hash. Matches the same recipes as looking
+		 * the input up in the recipe map, followed by its wildcard copy if tryWildcard is set.
+		 * @param stack - input item
+		 * @param secondary - the Gas of an AdvancedMachineInput or the InfuseType of an InfusionInput, otherwise null
+		 * @param tryWildcard - whether to fall back to a recipe for any meta of the item
+		 * @return the recipe, which must be copied before it is handed out, or null
+		 */
+		public MachineRecipe getItemRecipe(ItemStack stack, Object secondary, boolean tryWildcard)
+		{
+			if(stack == null || stack.getItem() == null)
+			{
+				return null;
+			}
+			
+			RecipeIndex recipeIndex = getIndex();
+			int itemId = Item.getIdFromItem(stack.getItem());
+			
+			List<MachineRecipe> list = recipeIndex.exact.get(RecipeIndex.getKey(itemId, stack.getItemDamage()));
+			
+			if(list != null)
+			{
+				for(MachineRecipe recipe : list)
+				{
+					if(RecipeIndex.matches(recipe.getInput(), stack, secondary))
+					{
+						return recipe;
+					}
+				}
+			}
+			
+			if(tryWildcard)
+			{
+				list = recipeIndex.wildcard.get(itemId);
+				
+				if(list != null)
+				{
+					for(MachineRecipe recipe : list)
+					{
+						if(!RecipeIndex.getItem(recipe.getInput()).hasTagCompound())
+						{
+							return recipe;
+						}
+					}
+				}
+			}
+			
+			return null;
+		}
+		
+		/**
+		 * Gets the recipes whose item input has the same item as a stack, and either the same meta or the wildcard meta.
+		 * @param stack - stack to check
+		 * @return the candidate recipes, which still need their input checked against the stack
+		 */
+		public List<MachineRecipe> getItemCandidates(ItemStack stack)
+		{
+			List<MachineRecipe> ret = new ArrayList<MachineRecipe>();
+			
+			if(stack == null || stack.getItem() == null)
+			{
+				return ret;
+			}
+			
+			RecipeIndex recipeIndex = getIndex();
+			int itemId = Item.getIdFromItem(stack.getItem());
+			
+			List<MachineRecipe> list = recipeIndex.exact.get(RecipeIndex.getKey(itemId, stack.getItemDamage()));
+			
+			if(list != null)
+			{
+				ret.addAll(list);
+			}
+			
+			list = recipeIndex.wildcard.get(itemId);
+			
+			if(list != null && stack.getItemDamage() != OreDictionary.WILDCARD_VALUE)
+			{
+				ret.addAll(list);
+			}
+			
+			return ret;
+		}
+		
+		private RecipeIndex getIndex()
+		{
+			RecipeIndex ret = index;
+			
+			//The map itself is public, so also rebuild if it was changed without going through put() or remove()
+			if(ret == null || ret.size != recipes.size())
+			{
+				ret = new RecipeIndex(recipes.values());
+				index = ret;
+			}
+			
+			return ret;
 		}
 		
 		public String getRecipeName()
@@ -619,6 +763,19 @@ public final class RecipeHandler
 
 		public boolean containsRecipe(ItemStack input)
 		{
+			if(inputClass == ItemStackInput.class || inputClass == AdvancedMachineInput.class)
+			{
+				for(MachineRecipe recipe : getItemCandidates(input))
+				{
+					if(StackUtils.equalsWildcard(RecipeIndex.getItem(recipe.getInput()), input))
+					{
+						return true;
+					}
+				}
+				
+				return false;
+			}
+			
 			for(Object obj : get().entrySet())
 			{
 				if(obj instanceof Map.Entry)
@@ -702,5 +859,113 @@ public final class RecipeHandler
 		{
 			return recipes;
 		}
+		
+		private static final Map<Map, Recipe> BY_MAP = new IdentityHashMap<Map, Recipe>();
+		
+		static {
+			for(Recipe type : values())
+			{
+				BY_MAP.put(type.recipes, type);
+			}
+		}
+	}
+	
+	/**
+	 * Recipes with an item input, by item ID and meta, along with the recipes for any meta of an item.
+	 */
+	private static class RecipeIndex
+	{
+		public Map<Integer, List<MachineRecipe>> exact = new HashMap<Integer, List<MachineRecipe>>();
+		
+		/** Recipes with a wildcard meta, by item ID. */
+		public Map<Integer, List<MachineRecipe>> wildcard = new HashMap<Integer, List<MachineRecipe>>();
+		
+		/** Size of the recipe map when this index was built. */
+		public int size;
+		
+		public RecipeIndex(Collection recipes)
+		{
+			size = recipes.size();
+			
+			for(Object obj : recipes)
+			{
+				MachineRecipe recipe = (MachineRecipe)obj;
+				ItemStack stack = getItem(recipe.getInput());
+				
+				if(stack == null || stack.getItem() == null)
+				{
+					continue;
+				}
+				
+				int itemId = Item.getIdFromItem(stack.getItem());
+				
+				add(exact, getKey(itemId, stack.getItemDamage()), recipe);
+				
+				if(stack.getItemDamage() == OreDictionary.WILDCARD_VALUE)
+				{
+					add(wildcard, itemId, recipe);
+				}
+			}
+		}
+		
+		private static void add(Map<Integer, List<MachineRecipe>> map, int key, MachineRecipe recipe)
+		{
+			List<MachineRecipe> list = map.get(key);
+			
+			if(list == null)
+			{
+				list = new ArrayList<MachineRecipe>(1);
+				map.put(key, list);
+			}
+			
+			list.add(recipe);
+		}
+		
+		public static int getKey(int itemId, int meta)
+		{
+			return itemId << 16 | (meta & 0xFFFF);
+		}
+		
+		public static ItemStack getItem(MachineInput input)
+		{
+			if(input instanceof ItemStackInput)
+			{
+				return ((ItemStackInput)input).ingredient;
+			}
+			else if(input instanceof AdvancedMachineInput)
+			{
+				return ((AdvancedMachineInput)input).itemStack;
+			}
+			else if(input instanceof InfusionInput)
+			{
+				return ((InfusionInput)input).inputStack;
+			}
+			
+			return null;
+		}
+		
+		/**
+		 * Same check as the recipe map's key equality, for a recipe with the same item and meta as the stack.
+		 */
+		public static boolean matches(MachineInput input, ItemStack stack, Object secondary)
+		{
+			if(!StackUtils.equalsWildcardWithNBT(stack, getItem(input)))
+			{
+				return false;
+			}
+			
+			if(input instanceof AdvancedMachineInput)
+			{
+				Gas gas = ((AdvancedMachineInput)input).gasType;
+				
+				return secondary instanceof Gas && gas != null && gas.getID() == ((Gas)secondary).getID();
+			}
+			else if(input instanceof InfusionInput)
+			{
+				return ((InfusionInput)input).infuse.type == secondary;
+			}
+			
+			return true;
+		}
 	}
 }
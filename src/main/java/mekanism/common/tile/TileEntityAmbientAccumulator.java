@@ -84,6 +84,8 @@ public class TileEntityAmbientAccumulator extends TileEntityContainerBlock imple
 	@Override
 	public ArrayList<Object> getNetworkedData(ArrayList<Object> data)
 	{
+		super.getNetworkedData(data);
+
 		if(collectedGas.getGasType() != null)
 		{
 			data.add(collectedGas.getGasType().getID());
@@ -100,6 +102,8 @@ public class TileEntityAmbientAccumulator extends TileEntityContainerBlock imple
 	@Override
 	public void handlePacketData(ByteBuf data)
 	{
+		super.handlePacketData(data);
+
 		if(FMLCommonHandler.instance().getEffectiveSide().isClient())
 		{
 			int gasID = data.readInt();
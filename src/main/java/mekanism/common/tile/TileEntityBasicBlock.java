@@ -1,15 +1,18 @@
 package mekanism.common.tile;
 
 import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
 
 import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 import mekanism.api.Coord4D;
 import mekanism.api.MekanismConfig.general;
 import mekanism.api.Range4D;
 import mekanism.common.Mekanism;
+import mekanism.common.PacketHandler;
 import mekanism.common.base.IChunkLoadHandler;
 import mekanism.common.base.ITileComponent;
 import mekanism.common.base.ITileNetwork;
@@ -20,7 +23,9 @@ import mekanism.common.frequency.Frequency;
 import mekanism.common.frequency.FrequencyManager;
 import mekanism.common.frequency.IFrequencyHandler;
 import mekanism.common.network.PacketDataRequest.DataRequestMessage;
+import mekanism.common.network.PacketTileEntity.SyncType;
 import mekanism.common.network.PacketTileEntity.TileEntityMessage;
+import mekanism.common.network.SyncDelta;
 import mekanism.common.security.ISecurityTile;
 import mekanism.common.util.MekanismUtils;
 import net.minecraft.block.Block;
@@ -55,17 +60,30 @@ public abstract class TileEntityBasicBlock extends TileEntity implements ITileNe
 
 	public List<ITileComponent> components = new ArrayList<ITileComponent>();
 
+	/** The data last sent to players with this block's GUI open; their clients apply the next sync's delta to it. */
+	private byte[] syncedData;
+
+	/** Players whose client holds syncedData. */
+	private Set<EntityPlayer> syncedPlayers = new HashSet<EntityPlayer>();
+
+	/** Client side copy of the data from the last GUI sync. */
+	private byte[] clientSyncData;
+
+	/** Changed whenever the config is loaded or synced, so every tile runs its load checks again. */
+	private static int configVersion;
+
+	/** The config version this tile last ran its load checks against, or -1 if it hasn't run them since loading. */
+	private int loadCheckVersion = -1;
+
 	@Override
 	public void update()
 	{
-		if(!worldObj.isRemote && general.destroyDisabledBlocks)
+		if(!worldObj.isRemote && loadCheckVersion != configVersion)
 		{
-			MachineType type = BlockStateMachine.MachineType.get(getBlockType(), getBlockMetadata());
+			loadCheckVersion = configVersion;
 			
-			if(type != null && !type.isEnabled())
+			if(!onLoadCheck())
 			{
-				Mekanism.logger.info("[Mekanism] Destroying machine of type '" + type.machineName + "' at coords " + Coord4D.get(this) + " as according to config.");
-				worldObj.setBlockToAir(getPos());
 				return;
 			}
 		}
@@ -79,12 +97,10 @@ public abstract class TileEntityBasicBlock extends TileEntity implements ITileNe
 
 		if(!worldObj.isRemote)
 		{
-			if(doAutoSync && playersUsing.size() > 0)
+			//Players that have just opened the GUI are sent its data straight away, everyone else at the configured interval
+			if(doAutoSync && playersUsing.size() > 0 && (ticker % general.guiSyncInterval == 0 || !syncedPlayers.containsAll(playersUsing)))
 			{
-				for(EntityPlayer player : playersUsing)
-				{
-					Mekanism.packetHandler.sendTo(new TileEntityMessage(Coord4D.get(this), getNetworkedData(new ArrayList<Object>())), (EntityPlayerMP)player);
-				}
+				sendGuiSync();
 			}
 		}
 
@@ -92,6 +108,37 @@ public abstract class TileEntityBasicBlock extends TileEntity implements ITileNe
 		redstoneLastTick = redstone;
 	}
 	
+	/**
+	 * Server side checks that only need to run when this tile has loaded and when the config changes, rather than every
+	 * tick. Runs before the tile's first tick after either. Subclasses overriding this should call it first, and stop if it
+	 * returns false.
+	 * @return false if the tile has removed itself from the world, in which case it doesn't tick
+	 */
+	protected boolean onLoadCheck()
+	{
+		if(general.destroyDisabledBlocks)
+		{
+			MachineType type = BlockStateMachine.MachineType.get(getBlockType(), getBlockMetadata());
+			
+			if(type != null && !type.isEnabled())
+			{
+				Mekanism.logger.info("[Mekanism] Destroying machine of type '" + type.machineName + "' at coords " + Coord4D.get(this) + " as according to config.");
+				worldObj.setBlockToAir(getPos());
+				return false;
+			}
+		}
+		
+		return true;
+	}
+	
+	/**
+	 * Makes every tile run its load checks again before its next tick, used when the config has changed.
+	 */
+	public static void onConfigChanged()
+	{
+		configVersion++;
+	}
+	
 	@Override
 	public void updateContainingBlockInfo()
 	{
@@ -114,6 +161,115 @@ public abstract class TileEntityBasicBlock extends TileEntity implements ITileNe
 	public void close(EntityPlayer player)
 	{
 		playersUsing.remove(player);
+		syncedPlayers.remove(player);
+	}
+
+	/**
+	 * Sends this block's data to the players using it. Players that already hold the last sync only get the bytes that
+	 * changed, and nothing at all is sent to them if nothing changed.
+	 */
+	private void sendGuiSync()
+	{
+		ByteBuf buffer = Unpooled.buffer();
+		writeNetworkedData(buffer);
+
+		byte[] data = new byte[buffer.readableBytes()];
+		buffer.readBytes(data);
+
+		TileEntityMessage full = null;
+		TileEntityMessage delta = null;
+		boolean changed = true;
+
+		for(EntityPlayer player : playersUsing)
+		{
+			if(syncedData != null && syncedPlayers.contains(player))
+			{
+				if(delta == null && changed)
+				{
+					ByteBuf deltaData = Unpooled.buffer();
+					changed = SyncDelta.write(deltaData, syncedData, data);
+					delta = new TileEntityMessage(Coord4D.get(this), SyncType.DELTA, deltaData);
+				}
+
+				if(changed)
+				{
+					Mekanism.packetHandler.sendTo(delta, (EntityPlayerMP)player);
+				}
+			}
+			else {
+				if(full == null)
+				{
+					full = new TileEntityMessage(Coord4D.get(this), SyncType.FULL, Unpooled.wrappedBuffer(data));
+				}
+
+				Mekanism.packetHandler.sendTo(full, (EntityPlayerMP)player);
+			}
+		}
+
+		syncedData = data;
+		syncedPlayers.clear();
+		syncedPlayers.addAll(playersUsing);
+	}
+
+	/**
+	 * Whether a tile that sends its own GUI packets each tick, instead of relying on the automatic sync, should send them
+	 * this tick, going by the configured GUI sync interval.
+	 * @return if there are players using this block and a GUI packet is due
+	 */
+	public boolean isGuiSyncTick()
+	{
+		return playersUsing.size() > 0 && ticker % general.guiSyncInterval == 0;
+	}
+
+	/**
+	 * Sends a message to every player using this block. The message is built once and shared by all of them.
+	 * @param message - message to send
+	 */
+	public void sendToPlayersUsing(TileEntityMessage message)
+	{
+		for(EntityPlayer player : playersUsing)
+		{
+			Mekanism.packetHandler.sendTo(message, (EntityPlayerMP)player);
+		}
+	}
+
+	/**
+	 * Makes the next GUI sync send a player this block's full data, used when their client asks for a resync.
+	 * @param player - player to resync
+	 */
+	public void requestResync(EntityPlayer player)
+	{
+		syncedPlayers.remove(player);
+	}
+
+	/**
+	 * Handles a GUI sync on the client, keeping a copy of the data to apply later deltas to.
+	 * @param type - whether the sync is full or a delta
+	 * @param dataStream - the sync's data
+	 * @return the full data to pass on to handlePacketData(), or null if the delta couldn't be applied
+	 */
+	public ByteBuf receiveSync(SyncType type, ByteBuf dataStream)
+	{
+		byte[] data;
+
+		if(type == SyncType.DELTA)
+		{
+			data = SyncDelta.apply(dataStream, clientSyncData);
+
+			if(data == null)
+			{
+				Mekanism.packetHandler.sendToServer(new DataRequestMessage(Coord4D.get(this)));
+				return null;
+			}
+		}
+		else {
+			data = new byte[dataStream.readableBytes()];
+			dataStream.readBytes(data);
+		}
+
+		clientSyncData = data;
+
+		return Unpooled.wrappedBuffer(data);
 	}
 
 	@Override
@@ -121,7 +277,7 @@ public abstract class TileEntityBasicBlock extends TileEntity implements ITileNe
 	{
 		if(FMLCommonHandler.instance().getEffectiveSide().isClient())
 		{
-			facing = EnumFacing.getFront(dataStream.readInt());
+			facing = PacketHandler.readEnum(dataStream, EnumFacing.VALUES);
 			redstone = dataStream.readBoolean();
 	
 			if(clientFacing != facing)
@@ -139,11 +295,31 @@ public abstract class TileEntityBasicBlock extends TileEntity implements ITileNe
 	}
 
 	@Override
-	public ArrayList<Object> getNetworkedData(ArrayList<Object> data)
+	public void writeNetworkedData(ByteBuf dataStream)
+	{
+		writeNetworkedData(dataStream, getNetworkedData(new ArrayList<Object>()));
+	}
+
+	/**
+	 * Writes this block's facing and redstone state, followed by a list of data that starts with getNetworkedData().
+	 * @param dataStream - buffer to write to
+	 * @param data - the rest of the packet's data
+	 */
+	public void writeNetworkedData(ByteBuf dataStream, ArrayList<Object> data)
 	{
-		data.add(facing == null ? -1 : facing.ordinal());
-		data.add(redstone);
+		PacketHandler.writeEnum(dataStream, facing);
+		dataStream.writeBoolean(redstone);
+
+		PacketHandler.encode(new Object[] {data}, dataStream);
+	}
 
+	/**
+	 * Facing and redstone state are written ahead of this list by writeNetworkedData(), so this tile's data is always sent
+	 * with a TileEntityMessage built from the tile itself.
+	 */
+	@Override
+	public ArrayList<Object> getNetworkedData(ArrayList<Object> data)
+	{
 		for(ITileComponent component : components)
 		{
 			component.write(data);
@@ -163,6 +339,17 @@ public abstract class TileEntityBasicBlock extends TileEntity implements ITileNe
 		}
 	}
 
+	@Override
+	public void onChunkUnload()
+	{
+		super.onChunkUnload();
+		
+		for(ITileComponent component : components)
+		{
+			component.onChunkUnload();
+		}
+	}
+
 	@Override
 	public void validate()
 	{
@@ -232,7 +419,7 @@ public abstract class TileEntityBasicBlock extends TileEntity implements ITileNe
 
 		if(!(facing == clientFacing || worldObj.isRemote))
 		{
-			Mekanism.packetHandler.sendToReceivers(new TileEntityMessage(Coord4D.get(this), getNetworkedData(new ArrayList<Object>())), new Range4D(Coord4D.get(this)));
+			Mekanism.packetHandler.sendToReceivers(new TileEntityMessage(Coord4D.get(this), this), new Range4D(Coord4D.get(this)));
 			markDirty();
 			clientFacing = facing;
 		}
@@ -265,6 +452,11 @@ public abstract class TileEntityBasicBlock extends TileEntity implements ITileNe
 		if(!worldObj.isRemote)
 		{
 			updatePower();
+			
+			for(ITileComponent component : components)
+			{
+				component.onNeighborChange();
+			}
 		}
 	}
 	
@@ -275,7 +467,7 @@ public abstract class TileEntityBasicBlock extends TileEntity implements ITileNe
 		if(redstone != power)
 		{
 			redstone = power;
-			Mekanism.packetHandler.sendToReceivers(new TileEntityMessage(Coord4D.get(this), getNetworkedData(new ArrayList<Object>())), new Range4D(Coord4D.get(this)));
+			Mekanism.packetHandler.sendToReceivers(new TileEntityMessage(Coord4D.get(this), this), new Range4D(Coord4D.get(this)));
 		
 			onPowerChange();
 		}
@@ -123,7 +123,7 @@ public abstract class TileEntityBasicMachine<INPUT extends MachineInput<INPUT>,
 
 				if(updateDelay == 0 && clientActive != isActive)
 				{
-					Mekanism.packetHandler.sendToReceivers(new TileEntityMessage(Coord4D.get(this), getNetworkedData(new ArrayList<Object>())), new Range4D(Coord4D.get(this)));
+					Mekanism.packetHandler.sendToReceivers(new TileEntityMessage(Coord4D.get(this), this), new Range4D(Coord4D.get(this)));
 				}
 			}
 		}
@@ -212,7 +212,7 @@ public abstract class TileEntityBasicMachine<INPUT extends MachineInput<INPUT>,
 
 		if(clientActive != active && updateDelay == 0)
 		{
-			Mekanism.packetHandler.sendToReceivers(new TileEntityMessage(Coord4D.get(this), getNetworkedData(new ArrayList<Object>())), new Range4D(Coord4D.get(this)));
+			Mekanism.packetHandler.sendToReceivers(new TileEntityMessage(Coord4D.get(this), this), new Range4D(Coord4D.get(this)));
 
 			updateDelay = 10;
 			clientActive = active;
@@ -83,6 +83,17 @@ public class TileEntityDigitalMiner extends TileEntityElectricBlock implements I
 
 	public ThreadMinerSearch searcher = new ThreadMinerSearch(this);
 
+	/** Whether a block state matches any filter, by block state ID. Cleared whenever the filters change. */
+	private Map<Integer, Boolean> filterVerdicts = new HashMap<Integer, Boolean>();
+
+	/** The oresToMine map the cursor below walks; the cursor is restarted when the searcher replaces it. */
+	private Map<Chunk3D, BitSet> cursorMap;
+	private Iterator<BitSet> cursorChunks;
+	private BitSet cursorSet;
+	private int cursorIndex;
+
+	private int toMineCount;
+
 	public final double BASE_ENERGY_USAGE = usage.digitalMinerUsage;
 
 	public double energyUsage = usage.digitalMinerUsage;
@@ -188,111 +199,7 @@ public class TileEntityDigitalMiner extends TileEntityElectricBlock implements I
 
 				if(delay == 0)
 				{
-					Set<Chunk3D> toRemove = new HashSet<Chunk3D>();
-					boolean did = false;
-					
-					for(Chunk3D chunk : oresToMine.keySet())
-					{
-						BitSet set = oresToMine.get(chunk);
-						int next = 0;
-	
-						while(true)
-						{
-							int index = set.nextSetBit(next);
-							Coord4D coord = getCoordFromIndex(index);
-	
-							if(index == -1)
-							{
-								toRemove.add(chunk);
-								break;
-							}
-	
-							if(!coord.exists(worldObj))
-							{
-								set.clear(index);
-								
-								if(set.cardinality() == 0)
-								{
-									toRemove.add(chunk);
-								}
-								
-								next = index + 1;
-								continue;
-							}
-
-							IBlockState state = coord.getBlockState(worldObj);
-							Block block = state.getBlock();
-							int meta = block.getMetaFromState(state);
-	
-							if(block == null || coord.isAirBlock(worldObj))
-							{
-								set.clear(index);
-								
-								if(set.cardinality() == 0)
-								{
-									toRemove.add(chunk);
-								}
-								
-								next = index + 1;
-								continue;
-							}
-	
-							boolean hasFilter = false;
-	
-							for(MinerFilter filter : filters)
-							{
-								if(filter.canFilter(new ItemStack(block, 1, meta)))
-								{
-									hasFilter = true;
-									break;
-								}
-							}
-	
-							if(inverse == hasFilter)
-							{
-								set.clear(index);
-								
-								if(set.cardinality() == 0)
-								{
-									toRemove.add(chunk);
-									break;
-								}
-								
-								next = index + 1;
-								continue;
-							}
-	
-							List<ItemStack> drops = MinerUtils.getDrops(worldObj, coord, silkTouch);
-	
-							if(canInsert(drops) && setReplace(coord, index))
-							{
-								did = true;
-								add(drops);
-								set.clear(index);
-								
-								if(set.cardinality() == 0)
-								{
-									toRemove.add(chunk);
-								}
-	
-								worldObj.playEvent(null, 2001, coord.getPos(), Block.getStateId(state));
-	
-								missingStack = null;
-							}
-	
-							break;
-						}
-						
-						if(did)
-						{
-							break;
-						}
-					}
-					
-					for(Chunk3D chunk : toRemove)
-					{
-						oresToMine.remove(chunk);
-					}
+					mineNext();
 					
 					delay = getDelay();
 				}
@@ -329,16 +236,145 @@ public class TileEntityDigitalMiner extends TileEntityElectricBlock implements I
 				delayTicks--;
 			}
 
-			if(playersUsing.size() > 0)
+			if(isGuiSyncTick())
+			{
+				sendToPlayersUsing(new TileEntityMessage(Coord4D.get(this), this, getSmallPacket(new ArrayList<Object>())));
+			}
+
+			prevEnergy = getEnergy();
+		}
+	}
+
+	/**
+	 * Mines the next block in the cursor's chunk, clearing any it passes over that can no longer be mined. If the block
+	 * can't be mined right now, the cursor moves on to the next chunk so the rest of the area gets a turn.
+	 */
+	private void mineNext()
+	{
+		syncCursor();
+
+		while(true)
+		{
+			if(cursorSet == null)
 			{
-				for(EntityPlayer player : playersUsing)
+				if(cursorChunks == null || !cursorChunks.hasNext())
 				{
-					Mekanism.packetHandler.sendTo(new TileEntityMessage(Coord4D.get(this), getSmallPacket(new ArrayList<Object>())), (EntityPlayerMP)player);
+					cursorChunks = oresToMine.values().iterator();
+
+					if(!cursorChunks.hasNext())
+					{
+						return;
+					}
 				}
+
+				cursorSet = cursorChunks.next();
+				cursorIndex = 0;
 			}
 
-			prevEnergy = getEnergy();
+			int index = cursorSet.nextSetBit(cursorIndex);
+
+			if(index == -1)
+			{
+				cursorChunks.remove();
+				cursorSet = null;
+
+				continue;
+			}
+
+			cursorIndex = index;
+			Coord4D coord = getCoordFromIndex(index);
+
+			if(!coord.exists(worldObj))
+			{
+				clearIndex(index);
+				continue;
+			}
+
+			IBlockState state = coord.getBlockState(worldObj);
+			Block block = state.getBlock();
+
+			if(block == null || coord.isAirBlock(worldObj) || state.getBlockHardness(worldObj, coord.getPos()) < 0 || inverse == hasFilter(state))
+			{
+				clearIndex(index);
+				continue;
+			}
+
+			List<ItemStack> drops = MinerUtils.getDrops(worldObj, coord, silkTouch);
+
+			if(canInsert(drops) && setReplace(coord, index))
+			{
+				add(drops);
+				clearIndex(index);
+
+				worldObj.playEvent(null, 2001, coord.getPos(), Block.getStateId(state));
+
+				missingStack = null;
+			}
+			else {
+				cursorSet = null;
+			}
+
+			return;
+		}
+	}
+
+	private void clearIndex(int index)
+	{
+		cursorSet.clear(index);
+		toMineCount--;
+	}
+
+	/**
+	 * Restarts the cursor and recounts the blocks left to mine if oresToMine has been replaced since the last check.
+	 */
+	private void syncCursor()
+	{
+		if(cursorMap != oresToMine)
+		{
+			cursorMap = oresToMine;
+			cursorChunks = null;
+			cursorSet = null;
+
+			toMineCount = 0;
+
+			for(BitSet set : oresToMine.values())
+			{
+				toMineCount += set.cardinality();
+			}
+		}
+	}
+
+	private boolean hasFilter(IBlockState state)
+	{
+		int stateId = Block.getStateId(state);
+		Boolean hasFilter = filterVerdicts.get(stateId);
+
+		if(hasFilter == null)
+		{
+			ItemStack stack = new ItemStack(state.getBlock(), 1, state.getBlock().getMetaFromState(state));
+			hasFilter = false;
+
+			for(MinerFilter filter : filters)
+			{
+				if(filter.canFilter(stack))
+				{
+					hasFilter = true;
+					break;
+				}
+			}
+
+			filterVerdicts.put(stateId, hasFilter);
 		}
+
+		return hasFilter;
+	}
+
+	/**
+	 * Forgets the cached filter verdicts; must be called whenever the filters are changed.
+	 */
+	public void onFiltersChanged()
+	{
+		filterVerdicts.clear();
 	}
 
 	public double getPerTick()
@@ -614,6 +650,7 @@ public class TileEntityDigitalMiner extends TileEntityElectricBlock implements I
 		oresToMine.clear();
 		replaceMap.clear();
 		missingStack = null;
+		cursorMap = null;
 
 		MekanismUtils.saveChunk(this);
 	}
@@ -633,14 +670,9 @@ public class TileEntityDigitalMiner extends TileEntityElectricBlock implements I
 	
 	public int getSize()
 	{
-		int size = 0;
-		
-		for(Chunk3D chunk : oresToMine.keySet())
-		{
-			size += oresToMine.get(chunk).cardinality();
-		}
+		syncCursor();
 		
-		return size;
+		return toMineCount;
 	}
 
 	@Override
@@ -650,7 +682,7 @@ public class TileEntityDigitalMiner extends TileEntityElectricBlock implements I
 
 		if(!worldObj.isRemote)
 		{
-			Mekanism.packetHandler.sendTo(new TileEntityMessage(Coord4D.get(this), getNetworkedData(new ArrayList())), (EntityPlayerMP)player);
+			Mekanism.packetHandler.sendTo(new TileEntityMessage(Coord4D.get(this), this), (EntityPlayerMP)player);
 		}
 	}
 
@@ -790,12 +822,10 @@ public class TileEntityDigitalMiner extends TileEntityElectricBlock implements I
 				}
 			}
 			
+			onFiltersChanged();
 			MekanismUtils.saveChunk(this);
 
-			for(EntityPlayer player : playersUsing)
-			{
-				Mekanism.packetHandler.sendTo(new TileEntityMessage(Coord4D.get(this), getGenericPacket(new ArrayList<Object>())), (EntityPlayerMP)player);
-			}
+			sendToPlayersUsing(new TileEntityMessage(Coord4D.get(this), this, getGenericPacket(new ArrayList<Object>())));
 
 			return;
 		}
@@ -1098,7 +1128,7 @@ public class TileEntityDigitalMiner extends TileEntityElectricBlock implements I
 
 		if(clientActive != active)
 		{
-			Mekanism.packetHandler.sendToReceivers(new TileEntityMessage(Coord4D.get(this), getNetworkedData(new ArrayList<Object>())), new Range4D(Coord4D.get(this)));
+			Mekanism.packetHandler.sendToReceivers(new TileEntityMessage(Coord4D.get(this), this), new Range4D(Coord4D.get(this)));
 
 			clientActive = active;
 		}
@@ -1384,10 +1414,9 @@ public class TileEntityDigitalMiner extends TileEntityElectricBlock implements I
 			}
 		}
 
-		for(EntityPlayer player : playersUsing)
-		{
-			Mekanism.packetHandler.sendTo(new TileEntityMessage(Coord4D.get(this), getGenericPacket(new ArrayList<Object>())), (EntityPlayerMP)player);
-		}
+		onFiltersChanged();
+
+		sendToPlayersUsing(new TileEntityMessage(Coord4D.get(this), this, getGenericPacket(new ArrayList<Object>())));
 
 		return null;
 	}
@@ -1438,6 +1467,8 @@ public class TileEntityDigitalMiner extends TileEntityElectricBlock implements I
 				filters.add(MinerFilter.readFromNBT(tagList.getCompoundTagAt(i)));
 			}
 		}
+
+		onFiltersChanged();
 	}
 
 	@Override
@@ -1493,6 +1524,8 @@ public class TileEntityDigitalMiner extends TileEntityElectricBlock implements I
 					filters.add(MinerFilter.readFromNBT((NBTTagCompound)tagList.getCompoundTagAt(i)));
 				}
 			}
+
+			onFiltersChanged();
 		}
 	}
 
@@ -3,12 +3,7 @@ package mekanism.common.tile;
 import io.netty.buffer.ByteBuf;
 
 import java.util.ArrayList;
-import java.util.Arrays;
-import java.util.Collections;
 import java.util.EnumSet;
-import java.util.HashSet;
-import java.util.List;
-import java.util.Set;
 
 import mekanism.api.Coord4D;
 import mekanism.api.EnumColor;
@@ -16,6 +11,7 @@ import mekanism.api.IConfigurable;
 import mekanism.api.MekanismConfig.general;
 import mekanism.api.MekanismConfig.usage;
 import mekanism.api.util.CapabilityUtils;
+import mekanism.common.BlockFrontier;
 import mekanism.common.Upgrade;
 import mekanism.common.base.FluidHandlerWrapper;
 import mekanism.common.base.IFluidHandlerWrapper;
@@ -36,13 +32,11 @@ import mekanism.common.util.PipeUtils;
 import net.minecraft.entity.player.EntityPlayer;
 import net.minecraft.item.ItemStack;
 import net.minecraft.nbt.NBTTagCompound;
-import net.minecraft.nbt.NBTTagList;
 import net.minecraft.tileentity.TileEntity;
 import net.minecraft.util.EnumActionResult;
 import net.minecraft.util.EnumFacing;
 import net.minecraft.util.text.TextComponentString;
 import net.minecraftforge.common.capabilities.Capability;
-import net.minecraftforge.common.util.Constants.NBT;
 import net.minecraftforge.fluids.Fluid;
 import net.minecraftforge.fluids.FluidRegistry;
 import net.minecraftforge.fluids.FluidStack;
@@ -77,8 +71,8 @@ public class TileEntityElectricPump extends TileEntityElectricBlock implements I
 	/** How many ticks this machine has been operating for. */
 	public int operatingTicks;
 
-	/** The nodes that have full sources near them or in them */
-	public Set<Coord4D> recurringNodes = new HashSet<Coord4D>();
+	/** The blocks this pump is yet to check, and the ones it has already checked */
+	public BlockFrontier frontier = new BlockFrontier();
 
 	/** This machine's current RedstoneControl type. */
 	public RedstoneControl controlType = RedstoneControl.DISABLED;
@@ -169,38 +163,24 @@ public class TileEntityElectricPump extends TileEntityElectricBlock implements I
 
 	public boolean suck(boolean take)
 	{
-		List<Coord4D> tempPumpList = Arrays.asList(recurringNodes.toArray(new Coord4D[recurringNodes.size()]));
-		Collections.shuffle(tempPumpList);
+		Coord4D origin = Coord4D.get(this);
 
-		//First see if there are any fluid blocks touching the pump - if so, sucks and adds the location to the recurring list
-		for(EnumFacing orientation : EnumFacing.VALUES)
+		//Starts from the blocks touching the pump, then works outwards from every source it takes, nearest first
+		if(frontier.getVisitedCount() == 0)
 		{
-			Coord4D wrapper = Coord4D.get(this).offset(orientation);
-			FluidStack fluid = MekanismUtils.getFluid(worldObj, wrapper, hasFilter());
+			frontier.visit(getPos());
 
-			if(fluid != null && (activeType == null || fluid.getFluid() == activeType) && (fluidTank.getFluid() == null || fluidTank.getFluid().isFluidEqual(fluid)))
+			for(EnumFacing orientation : EnumFacing.VALUES)
 			{
-				if(take)
-				{
-					activeType = fluid.getFluid();
-					recurringNodes.add(wrapper);
-					fluidTank.fill(fluid, true);
-					
-					if(shouldTake(fluid, wrapper))
-					{
-						worldObj.setBlockToAir(wrapper.getPos());
-					}
-				}
-
-				return true;
+				frontier.add(origin.offset(orientation).getPos());
 			}
 		}
 
-		//Finally, go over the recurring list of nodes and see if there is a fluid block available to suck - if not, will iterate around the recurring block, attempt to suck, 
-		//and then add the adjacent block to the recurring list
-		for(Coord4D wrapper : tempPumpList)
+		//Positions that don't hold a matching source are dropped, and are never queued again until the pump is reset
+		while(!frontier.isEmpty())
 		{
-			FluidStack fluid = MekanismUtils.getFluid(worldObj, wrapper, hasFilter());
+			Coord4D wrapper = new Coord4D(frontier.peek(), worldObj);
+			FluidStack fluid = wrapper.exists(worldObj) ? MekanismUtils.getFluid(worldObj, wrapper, hasFilter()) : null;
 
 			if(fluid != null && (activeType == null || fluid.getFluid() == activeType) && (fluidTank.getFluid() == null || fluidTank.getFluid().isFluidEqual(fluid)))
 			{
@@ -209,44 +189,28 @@ public class TileEntityElectricPump extends TileEntityElectricBlock implements I
 					activeType = fluid.getFluid();
 					fluidTank.fill(fluid, true);
 
+					//Sources that aren't taken stay at the front of the queue, so the pump keeps drawing from them
 					if(shouldTake(fluid, wrapper))
 					{
 						worldObj.setBlockToAir(wrapper.getPos());
-					}
-				}
-
-				return true;
-			}
-
-			//Add all the blocks surrounding this recurring node to the recurring node list
-			for(EnumFacing orientation : EnumFacing.VALUES)
-			{
-				Coord4D side = wrapper.offset(orientation);
+						frontier.poll();
 
-				if(Coord4D.get(this).distanceTo(side) <= general.maxPumpRange)
-				{
-					fluid = MekanismUtils.getFluid(worldObj, side, hasFilter());
-					
-					if(fluid != null && (activeType == null || fluid.getFluid() == activeType) && (fluidTank.getFluid() == null || fluidTank.getFluid().isFluidEqual(fluid)))
-					{
-						if(take)
+						for(EnumFacing orientation : EnumFacing.VALUES)
 						{
-							activeType = fluid.getFluid();
-							recurringNodes.add(side);
-							fluidTank.fill(fluid, true);
-							
-							if(shouldTake(fluid, side))
+							Coord4D side = wrapper.offset(orientation);
+
+							if(origin.distanceTo(side) <= general.maxPumpRange)
 							{
-								worldObj.setBlockToAir(side.getPos());
+								frontier.add(side.getPos());
 							}
 						}
-
-						return true;
 					}
 				}
+
+				return true;
 			}
 
-			recurringNodes.remove(wrapper);
+			frontier.poll();
 		}
 
 		return false;
@@ -255,7 +219,7 @@ public class TileEntityElectricPump extends TileEntityElectricBlock implements I
 	public void reset()
 	{
 		activeType = null;
-		recurringNodes.clear();
+		frontier.clear();
 	}
 	
 	private boolean shouldTake(FluidStack fluid, Coord4D coord)
@@ -327,19 +291,8 @@ public class TileEntityElectricPump extends TileEntityElectricBlock implements I
 
 		nbtTags.setInteger("controlType", controlType.ordinal());
 
-		NBTTagList recurringList = new NBTTagList();
-
-		for(Coord4D wrapper : recurringNodes)
-		{
-			NBTTagCompound tagCompound = new NBTTagCompound();
-			wrapper.write(tagCompound);
-			recurringList.appendTag(tagCompound);
-		}
-
-		if(recurringList.tagCount() != 0)
-		{
-			nbtTags.setTag("recurringNodes", recurringList);
-		}
+		//Checked blocks aren't saved, as rechecking the drained ones around the queue after a reload is cheap
+		frontier.write(nbtTags, "frontier", false);
 		
 		return nbtTags;
 	}
@@ -367,15 +320,7 @@ public class TileEntityElectricPump extends TileEntityElectricBlock implements I
 			controlType = RedstoneControl.values()[nbtTags.getInteger("controlType")];
 		}
 
-		if(nbtTags.hasKey("recurringNodes"))
-		{
-			NBTTagList tagList = nbtTags.getTagList("recurringNodes", NBT.TAG_COMPOUND);
-
-			for(int i = 0; i < tagList.tagCount(); i++)
-			{
-				recurringNodes.add(Coord4D.read(tagList.getCompoundTagAt(i)));
-			}
-		}
+		frontier.read(nbtTags, "frontier");
 	}
 
 	@Override
@@ -134,7 +134,7 @@ public class TileEntityElectrolyticSeparator extends TileEntityElectricBlock imp
 
                 if(updateDelay == 0 && clientActive != isActive)
                 {
-                    Mekanism.packetHandler.sendToReceivers(new TileEntityMessage(Coord4D.get(this), getNetworkedData(new ArrayList<Object>())), new Range4D(Coord4D.get(this)));
+                    Mekanism.packetHandler.sendToReceivers(new TileEntityMessage(Coord4D.get(this), this), new Range4D(Coord4D.get(this)));
                 }
             }
 
@@ -703,7 +703,7 @@ public class TileEntityElectrolyticSeparator extends TileEntityElectricBlock imp
 
         if(clientActive != active && updateDelay == 0)
         {
-            Mekanism.packetHandler.sendToReceivers(new TileEntityMessage(Coord4D.get(this), getNetworkedData(new ArrayList<Object>())), new Range4D(Coord4D.get(this)));
+            Mekanism.packetHandler.sendToReceivers(new TileEntityMessage(Coord4D.get(this), this), new Range4D(Coord4D.get(this)));
 
             updateDelay = 10;
             clientActive = active;
@@ -95,7 +95,7 @@ public class TileEntityEnergyCube extends TileEntityElectricBlock implements ICo
 	
 			if(newScale != prevScale)
 			{
-				Mekanism.packetHandler.sendToReceivers(new TileEntityMessage(Coord4D.get(this), getNetworkedData(new ArrayList())), new Range4D(Coord4D.get(this)));
+				Mekanism.packetHandler.sendToReceivers(new TileEntityMessage(Coord4D.get(this), this), new Range4D(Coord4D.get(this)));
 			}
 	
 			prevScale = newScale;
@@ -112,7 +112,7 @@ public class TileEntityEnergyCube extends TileEntityElectricBlock implements ICo
 		
 		tier = EnergyCubeTier.values()[upgradeTier.ordinal()];
 		
-		Mekanism.packetHandler.sendToReceivers(new TileEntityMessage(Coord4D.get(this), getNetworkedData(new ArrayList())), new Range4D(Coord4D.get(this)));
+		Mekanism.packetHandler.sendToReceivers(new TileEntityMessage(Coord4D.get(this), this), new Range4D(Coord4D.get(this)));
 		markDirty();
 		
 		return true;
@@ -4,7 +4,6 @@ import io.netty.buffer.ByteBuf;
 
 import java.util.ArrayList;
 import java.util.EnumSet;
-import java.util.List;
 
 import mekanism.api.Coord4D;
 import mekanism.api.EnumColor;
@@ -21,6 +20,7 @@ import mekanism.api.gas.IGasItem;
 import mekanism.api.gas.ITubeConnection;
 import mekanism.api.infuse.InfuseObject;
 import mekanism.api.infuse.InfuseRegistry;
+import mekanism.api.infuse.InfuseType;
 import mekanism.api.transmitters.TransmissionType;
 import mekanism.api.util.StackUtils;
 import mekanism.client.HolidayManager;
@@ -44,10 +44,9 @@ import mekanism.common.block.states.BlockStateMachine.MachineType;
 import mekanism.common.capabilities.Capabilities;
 import mekanism.common.integration.IComputerIntegration;
 import mekanism.common.network.PacketTileEntity.TileEntityMessage;
-import mekanism.common.recipe.RecipeHandler;
-import mekanism.common.recipe.inputs.InfusionInput;
 import mekanism.common.recipe.machines.AdvancedMachineRecipe;
 import mekanism.common.recipe.machines.BasicMachineRecipe;
+import mekanism.common.recipe.machines.MachineRecipe;
 import mekanism.common.recipe.machines.MetallurgicInfuserRecipe;
 import mekanism.common.security.ISecurityTile;
 import mekanism.common.tile.component.TileComponentConfig;
@@ -60,7 +59,6 @@ import mekanism.common.util.ItemDataUtils;
 import mekanism.common.util.LangUtils;
 import mekanism.common.util.MekanismUtils;
 import mekanism.common.util.StatUtils;
-import net.minecraft.item.Item;
 import net.minecraft.item.ItemStack;
 import net.minecraft.nbt.NBTTagCompound;
 import net.minecraft.util.EnumFacing;
@@ -127,9 +125,23 @@ public class TileEntityFactory extends TileEntityNoisyElectricBlock implements I
 
 	public boolean sorting;
 	
+	/** Whether the inventory has changed since the input slots were last sorted. */
+	private boolean sortNeeded = true;
+	
 	public boolean upgraded;
 	
 	public double lastUsage;
+	
+	/** The recipe each process last resolved, kept while the process's input item, the secondary input and the recipes stay the same. */
+	private MachineRecipe[] cachedRecipes;
+	
+	/** The input item each process's cached recipe was resolved for. */
+	private ItemStack[] cachedInputs;
+	
+	private RecipeType cachedType;
+	private int cachedVersion;
+	private Gas cachedGas;
+	private InfuseType cachedInfuse;
 
 	@SideOnly(Side.CLIENT)
 	public SoundWrapper[] sounds;
@@ -259,7 +271,7 @@ public class TileEntityFactory extends TileEntityNoisyElectricBlock implements I
 		factory.upgraded = true;
 		
 		factory.markDirty();
-		Mekanism.packetHandler.sendToReceivers(new TileEntityMessage(Coord4D.get(factory), factory.getNetworkedData(new ArrayList())), new Range4D(Coord4D.get(factory)));
+		Mekanism.packetHandler.sendToReceivers(new TileEntityMessage(Coord4D.get(factory), factory), new Range4D(Coord4D.get(factory)));
 		
 		return true;
 	}
@@ -293,7 +305,7 @@ public class TileEntityFactory extends TileEntityNoisyElectricBlock implements I
 
 				if(updateDelay == 0 && clientActive != isActive)
 				{
-					Mekanism.packetHandler.sendToReceivers(new TileEntityMessage(Coord4D.get(this), getNetworkedData(new ArrayList())), new Range4D(Coord4D.get(this)));
+					Mekanism.packetHandler.sendToReceivers(new TileEntityMessage(Coord4D.get(this), this), new Range4D(Coord4D.get(this)));
 				}
 			}
 
@@ -423,82 +435,112 @@ public class TileEntityFactory extends TileEntityNoisyElectricBlock implements I
 		return configComponent.getSidesForData(TransmissionType.ENERGY, facing, 1);
 	}
 
+	@Override
+	public void markDirty()
+	{
+		super.markDirty();
+		
+		sortNeeded = true;
+	}
+
+	/**
+	 * Spreads each kind of item in the input slots evenly over the slots holding it and any empty ones, so every process
+	 * can work on it. Only runs after the inventory has changed, and finishes in a single pass.
+	 */
 	public void sortInventory()
 	{
-		if(sorting)
+		if(!sorting || !sortNeeded)
 		{
-			boolean didOp = false;
-
-			int[] inputSlots = null;
-
-			List<InvID> invStacks = new ArrayList<InvID>();
+			return;
+		}
+		
+		boolean didOp = false;
+		
+		int first = getInputSlot(0);
+		int last = getInputSlot(tier.processes-1);
 
-			if(tier == FactoryTier.BASIC)
-			{
-				inputSlots = new int[] {5, 6, 7};
-			}
-			else if(tier == FactoryTier.ADVANCED)
+		for(int i = first; i <= last; i++)
+		{
+			if(inventory[i] != null && isFirstOfKind(i, first))
 			{
-				inputSlots = new int[] {5, 6, 7, 8, 9};
+				didOp |= spread(inventory[i], first, last);
 			}
-			else if(tier == FactoryTier.ELITE)
+		}
+
+		if(didOp)
+		{
+			markDirty();
+		}
+		
+		sortNeeded = false;
+	}
+	
+	private boolean isFirstOfKind(int slotID, int first)
+	{
+		for(int i = first; i < slotID; i++)
+		{
+			if(isSameKind(inventory[slotID], inventory[i]))
 			{
-				inputSlots = new int[] {5, 6, 7, 8, 9, 10, 11};
+				return false;
 			}
-
-			for(int id : inputSlots)
+		}
+		
+		return true;
+	}
+	
+	private boolean spread(ItemStack stack, int first, int last)
+	{
+		int total = 0, slots = 0;
+		int min = Integer.MAX_VALUE, max = 0;
+		
+		for(int i = first; i <= last; i++)
+		{
+			if(inventory[i] == null || isSameKind(stack, inventory[i]))
 			{
-				invStacks.add(InvID.get(id, inventory));
+				int size = inventory[i] != null ? inventory[i].stackSize : 0;
+				
+				total += size;
+				slots++;
+				min = Math.min(min, size);
+				max = Math.max(max, size);
 			}
-
-			for(InvID invID1 : invStacks)
+		}
+		
+		//Stacks that differ by one are as even as they can get
+		if(max-min < 2)
+		{
+			return false;
+		}
+		
+		int share = total/slots;
+		int extra = total%slots;
+		
+		for(int i = first; i <= last; i++)
+		{
+			if(inventory[i] == null || isSameKind(stack, inventory[i]))
 			{
-				for(InvID invID2 : invStacks)
+				int size = extra-- > 0 ? share+1 : share;
+				
+				if(size == 0)
 				{
-					if(invID1.ID == invID2.ID || StackUtils.diffIgnoreNull(invID1.stack, invID2.stack) || Math.abs(invID1.size()-invID2.size()) < 2) continue;
-
-					List<ItemStack> evened = StackUtils.even(inventory[invID1.ID], inventory[invID2.ID]);
-					inventory[invID1.ID] = evened.get(0);
-					inventory[invID2.ID] = evened.get(1);
-
-					didOp = true;
-					break;
+					inventory[i] = null;
 				}
-
-				if(didOp)
+				else if(inventory[i] == null)
 				{
-					markDirty();
-					break;
+					inventory[i] = StackUtils.size(stack, size);
+				}
+				else {
+					inventory[i].stackSize = size;
 				}
 			}
 		}
+		
+		return true;
 	}
-
-	public static class InvID
+	
+	private static boolean isSameKind(ItemStack stack1, ItemStack stack2)
 	{
-		public ItemStack stack;
-		public int ID;
-
-		public InvID(ItemStack s, int i)
-		{
-			stack = s;
-			ID = i;
-		}
-
-		public int size()
-		{
-			return stack != null ? stack.stackSize : 0;
-		}
-
-		public Item item()
-		{
-			return stack != null ? stack.getItem() : null;
-		}
-
-		public static InvID get(int id, ItemStack[] inv)
-		{
-			return new InvID(inv[id], id);
-		}
+		return stack2 != null && stack1.isItemEqual(stack2) && ItemStack.areItemStackTagsEqual(stack1, stack2);
 	}
 
 	public double getSecondaryEnergyPerTick(RecipeType type)
@@ -673,38 +715,74 @@ public class TileEntityFactory extends TileEntityNoisyElectricBlock implements I
 		return recipeTicks*i / RECIPE_TICKS_REQUIRED;
 	}
 
-	public boolean canOperate(int inputSlot, int outputSlot)
+	/**
+	 * Gets the recipe for a process's input, looking it up again only when the input item, the gas or infuse type, or the
+	 * recipe type has changed since it was last resolved.
+	 * @param inputSlot - the process's input slot
+	 * @return the recipe, or null if there isn't one
+	 */
+	public MachineRecipe getRecipe(int inputSlot)
 	{
-		if(inventory[inputSlot] == null)
+		ItemStack stack = inventory[inputSlot];
+
+		if(stack == null)
 		{
-			return false;
+			return null;
 		}
 
-		if(recipeType.usesFuel())
+		if(cachedRecipes == null || cachedType != recipeType || cachedVersion != recipeType.getRecipeVersion() || cachedGas != gasTank.getGasType() || cachedInfuse != infuseStored.type)
 		{
-			AdvancedMachineRecipe<?> recipe = recipeType.getRecipe(inventory[inputSlot], gasTank.getGasType());
+			cachedRecipes = new MachineRecipe[tier.processes];
+			cachedInputs = new ItemStack[tier.processes];
+			cachedType = recipeType;
+			cachedVersion = recipeType.getRecipeVersion();
+			cachedGas = gasTank.getGasType();
+			cachedInfuse = infuseStored.type;
+		}
 
-			return recipe != null && recipe.canOperate(inventory, inputSlot, outputSlot, gasTank, secondaryEnergyThisTick);
+		int process = inputSlot-getInputSlot(0);
+		ItemStack cached = cachedInputs[process];
 
-		}
-		
-		if(recipeType == RecipeType.INFUSING)
+		if(cached == null || !ItemStack.areItemsEqual(cached, stack) || !ItemStack.areItemStackTagsEqual(cached, stack))
 		{
-			InfusionInput input = new InfusionInput(infuseStored, inventory[inputSlot]);
-			MetallurgicInfuserRecipe recipe = RecipeHandler.getMetallurgicInfuserRecipe(input);
-			
-			if(recipe == null)
+			if(recipeType.usesFuel())
 			{
-				return false;
+				cachedRecipes[process] = recipeType.getRecipe(stack, gasTank.getGasType());
 			}
-			
-			return recipe.canOperate(inventory, inputSlot, outputSlot, infuseStored);
+			else if(recipeType == RecipeType.INFUSING)
+			{
+				cachedRecipes[process] = recipeType.getRecipe(stack, infuseStored);
+			}
+			else {
+				cachedRecipes[process] = recipeType.getRecipe(stack);
+			}
+
+			cachedInputs[process] = StackUtils.size(stack, 1);
 		}
 
-		BasicMachineRecipe<?> recipe = recipeType.getRecipe(inventory[inputSlot]);
+		return cachedRecipes[process];
+	}
 
-		return recipe != null && recipe.canOperate(inventory, inputSlot, outputSlot);
+	public boolean canOperate(int inputSlot, int outputSlot)
+	{
+		MachineRecipe recipe = getRecipe(inputSlot);
 
+		if(recipe == null)
+		{
+			return false;
+		}
+
+		if(recipeType.usesFuel())
+		{
+			return ((AdvancedMachineRecipe<?>)recipe).canOperate(inventory, inputSlot, outputSlot, gasTank, secondaryEnergyThisTick);
+		}
+		
+		if(recipeType == RecipeType.INFUSING)
+		{
+			return ((MetallurgicInfuserRecipe)recipe).canOperate(inventory, inputSlot, outputSlot, infuseStored);
+		}
+
+		return ((BasicMachineRecipe<?>)recipe).canOperate(inventory, inputSlot, outputSlot);
 	}
 
 	public void operate(int inputSlot, int outputSlot)
@@ -714,23 +792,18 @@ public class TileEntityFactory extends TileEntityNoisyElectricBlock implements I
 			return;
 		}
 
+		MachineRecipe recipe = getRecipe(inputSlot);
+
 		if(recipeType.usesFuel())
 		{
-			AdvancedMachineRecipe<?> recipe = recipeType.getRecipe(inventory[inputSlot], gasTank.getGasType());
-
-			recipe.operate(inventory, inputSlot, outputSlot, gasTank, secondaryEnergyThisTick);
+			((AdvancedMachineRecipe<?>)recipe).operate(inventory, inputSlot, outputSlot, gasTank, secondaryEnergyThisTick);
 		}
 		else if(recipeType == RecipeType.INFUSING)
 		{
-			InfusionInput input = new InfusionInput(infuseStored, inventory[inputSlot]);
-			MetallurgicInfuserRecipe recipe = RecipeHandler.getMetallurgicInfuserRecipe(input);
-			
-			recipe.output(inventory, inputSlot, outputSlot, infuseStored);
+			((MetallurgicInfuserRecipe)recipe).output(inventory, inputSlot, outputSlot, infuseStored);
 		}
 		else {
-			BasicMachineRecipe<?> recipe = recipeType.getRecipe(inventory[inputSlot]);
-
-			recipe.operate(inventory, inputSlot, outputSlot);
+			((BasicMachineRecipe<?>)recipe).operate(inventory, inputSlot, outputSlot);
 		}
 
 		markDirty();
@@ -747,6 +820,7 @@ public class TileEntityFactory extends TileEntityNoisyElectricBlock implements I
 			if(type == 0)
 			{
 				sorting = !sorting;
+				sortNeeded = true;
 			}
 			else if(type == 1)
 			{
@@ -999,7 +1073,7 @@ public class TileEntityFactory extends TileEntityNoisyElectricBlock implements I
 
 		if(clientActive != active && updateDelay == 0)
 		{
-			Mekanism.packetHandler.sendToReceivers(new TileEntityMessage(Coord4D.get(this), getNetworkedData(new ArrayList<Object>())), new Range4D(Coord4D.get(this)));
+			Mekanism.packetHandler.sendToReceivers(new TileEntityMessage(Coord4D.get(this), this), new Range4D(Coord4D.get(this)));
 
 			updateDelay = 10;
 			clientActive = active;
@@ -4,14 +4,13 @@ import io.netty.buffer.ByteBuf;
 
 import java.util.ArrayList;
 import java.util.EnumSet;
-import java.util.HashSet;
-import java.util.Set;
 
 import mekanism.api.Coord4D;
 import mekanism.api.EnumColor;
 import mekanism.api.IConfigurable;
 import mekanism.api.MekanismConfig.general;
 import mekanism.api.MekanismConfig.usage;
+import mekanism.common.BlockFrontier;
 import mekanism.common.Upgrade;
 import mekanism.common.base.FluidHandlerWrapper;
 import mekanism.common.base.IFluidHandlerWrapper;
@@ -33,12 +32,10 @@ import mekanism.common.util.PipeUtils;
 import net.minecraft.entity.player.EntityPlayer;
 import net.minecraft.item.ItemStack;
 import net.minecraft.nbt.NBTTagCompound;
-import net.minecraft.nbt.NBTTagList;
 import net.minecraft.util.EnumActionResult;
 import net.minecraft.util.EnumFacing;
 import net.minecraft.util.text.TextComponentString;
 import net.minecraftforge.common.capabilities.Capability;
-import net.minecraftforge.common.util.Constants.NBT;
 import net.minecraftforge.fluids.Fluid;
 import net.minecraftforge.fluids.FluidRegistry;
 import net.minecraftforge.fluids.FluidStack;
@@ -51,8 +48,8 @@ import net.minecraftforge.fml.common.network.ByteBufUtils;
 
 public class TileEntityFluidicPlenisher extends TileEntityElectricBlock implements IComputerIntegration, IConfigurable, IFluidHandlerWrapper, ISustainedTank, IUpgradeTile, IRedstoneControl, ISecurityTile
 {
-	public Set<Coord4D> activeNodes = new HashSet<Coord4D>();
-	public Set<Coord4D> usedNodes = new HashSet<Coord4D>();
+	/** The blocks this plenisher is yet to fill, and the ones it has already been through */
+	public BlockFrontier frontier = new BlockFrontier();
 	
 	public boolean finishedCalc = false;
 	
@@ -141,15 +138,16 @@ public class TileEntityFluidicPlenisher extends TileEntityElectricBlock implemen
 	
 	private void doPlenish()
 	{
-		if(usedNodes.size() >= general.maxPlenisherNodes)
+		//Nodes that have been through the queue, as opposed to those still waiting in it
+		if(frontier.getVisitedCount() - frontier.size() >= general.maxPlenisherNodes)
 		{
 			finishedCalc = true;
 			return;
 		}
 		
-		if(activeNodes.isEmpty())
+		if(frontier.isEmpty())
 		{
-			if(usedNodes.isEmpty())
+			if(frontier.getVisitedCount() == 0)
 			{
 				Coord4D below = Coord4D.get(this).offset(EnumFacing.DOWN);
 				
@@ -159,7 +157,7 @@ public class TileEntityFluidicPlenisher extends TileEntityElectricBlock implemen
 					return;
 				}
 
-				activeNodes.add(below);
+				frontier.add(below.getPos());
 			}
 			else {
 				finishedCalc = true;
@@ -167,13 +165,13 @@ public class TileEntityFluidicPlenisher extends TileEntityElectricBlock implemen
 			}
 		}
 		
-		Set<Coord4D> toRemove = new HashSet<Coord4D>();
-		
-		for(Coord4D coord : activeNodes)
+		while(!frontier.isEmpty())
 		{
+			Coord4D coord = new Coord4D(frontier.poll(), worldObj);
+			
 			if(coord.exists(worldObj))
 			{
-				if(canReplace(coord, true, false))
+				if(canReplace(coord, false, false))
 				{
 					worldObj.setBlockState(coord.getPos(), MekanismUtils.getFlowingBlock(fluidTank.getFluid().getFluid()).getDefaultState(), 3);
 
@@ -186,28 +184,18 @@ public class TileEntityFluidicPlenisher extends TileEntityElectricBlock implemen
 					
 					if(sideCoord.exists(worldObj) && canReplace(sideCoord, true, true))
 					{
-						activeNodes.add(sideCoord);
+						frontier.add(sideCoord.getPos());
 					}
 				}
 				
-				toRemove.add(coord);
 				break;
 			}
-			else {
-				toRemove.add(coord);
-			}
-		}
-		
-		for(Coord4D coord : toRemove)
-		{
-			activeNodes.remove(coord);
-			usedNodes.add(coord);
 		}
 	}
 	
 	public boolean canReplace(Coord4D coord, boolean checkNodes, boolean isPathfinding)
 	{
-		if(checkNodes && usedNodes.contains(coord))
+		if(checkNodes && frontier.isVisited(coord.getPos()))
 		{
 			return false;
 		}
@@ -280,31 +268,7 @@ public class TileEntityFluidicPlenisher extends TileEntityElectricBlock implemen
 			nbtTags.setTag("fluidTank", fluidTank.writeToNBT(new NBTTagCompound()));
 		}
 		
-		NBTTagList activeList = new NBTTagList();
-
-		for(Coord4D wrapper : activeNodes)
-		{
-			NBTTagCompound tagCompound = new NBTTagCompound();
-			wrapper.write(tagCompound);
-			activeList.appendTag(tagCompound);
-		}
-
-		if(activeList.tagCount() != 0)
-		{
-			nbtTags.setTag("activeNodes", activeList);
-		}
-
-		NBTTagList usedList = new NBTTagList();
-
-		for(Coord4D obj : usedNodes)
-		{
-			activeList.appendTag(obj.write(new NBTTagCompound()));
-		}
-
-		if(activeList.tagCount() != 0)
-		{
-			nbtTags.setTag("usedNodes", usedList);
-		}
+		frontier.write(nbtTags, "frontier", true);
 		
 		return nbtTags;
 	}
@@ -323,25 +287,7 @@ public class TileEntityFluidicPlenisher extends TileEntityElectricBlock implemen
 			fluidTank.readFromNBT(nbtTags.getCompoundTag("fluidTank"));
 		}
 		
-		if(nbtTags.hasKey("activeNodes"))
-		{
-			NBTTagList tagList = nbtTags.getTagList("activeNodes", NBT.TAG_COMPOUND);
-
-			for(int i = 0; i < tagList.tagCount(); i++)
-			{
-				activeNodes.add(Coord4D.read(tagList.getCompoundTagAt(i)));
-			}
-		}
-
-		if(nbtTags.hasKey("usedNodes"))
-		{
-			NBTTagList tagList = nbtTags.getTagList("usedNodes", NBT.TAG_COMPOUND);
-
-			for(int i = 0; i < tagList.tagCount(); i++)
-			{
-				usedNodes.add(Coord4D.read(tagList.getCompoundTagAt(i)));
-			}
-		}
+		frontier.read(nbtTags, "frontier");
 	}
 
 	@Override
@@ -478,8 +424,7 @@ public class TileEntityFluidicPlenisher extends TileEntityElectricBlock implemen
 	@Override
 	public EnumActionResult onSneakRightClick(EntityPlayer player, EnumFacing side)
 	{
-		activeNodes.clear();
-		usedNodes.clear();
+		frontier.clear();
 		finishedCalc = false;
 		
 		player.addChatMessage(new TextComponentString(EnumColor.DARK_BLUE + "[Mekanism] " + EnumColor.GREY + LangUtils.localize("tooltip.configurator.plenisherReset")));
@@ -530,8 +475,7 @@ public class TileEntityFluidicPlenisher extends TileEntityElectricBlock implemen
         switch(method)
         {
             case 0:
-                activeNodes.clear();
-                usedNodes.clear();
+                frontier.clear();
                 finishedCalc = false;
 
                 return new Object[]{"Plenisher calculation reset."};
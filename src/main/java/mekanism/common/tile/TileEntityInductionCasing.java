@@ -66,7 +66,7 @@ public class TileEntityInductionCasing extends TileEntityMultiblock<Synchronized
 	{
 		if(!player.isSneaking() && structure != null)
 		{
-			Mekanism.packetHandler.sendToReceivers(new TileEntityMessage(Coord4D.get(this), getNetworkedData(new ArrayList<Object>())), new Range4D(Coord4D.get(this)));
+			Mekanism.packetHandler.sendToReceivers(new TileEntityMessage(Coord4D.get(this), this), new Range4D(Coord4D.get(this)));
 			player.openGui(Mekanism.instance, 49, worldObj, getPos().getX(), getPos().getY(), getPos().getZ());
 			
 			return true;
@@ -82,7 +82,7 @@ public class TileEntityInductionCasing extends TileEntityMultiblock<Synchronized
 		
 		if(structure != null)
 		{
-			data.add(structure.getEnergy(worldObj));
+			data.add(structure.getEnergy());
 			data.add(structure.storageCap);
 			data.add(structure.transferCap);
 			data.add(structure.lastInput);
@@ -164,7 +164,7 @@ public class TileEntityInductionCasing extends TileEntityMultiblock<Synchronized
 	{
 		if(!worldObj.isRemote)
 		{
-			return structure != null ? structure.getEnergy(worldObj) : 0;
+			return structure != null ? structure.getEnergy() : 0;
 		}
 		else {
 			return structure != null ? structure.clientEnergy : 0;
@@ -7,6 +7,7 @@ import java.util.ArrayList;
 import mekanism.api.energy.IStrictEnergyStorage;
 import mekanism.common.Tier.InductionCellTier;
 import mekanism.common.capabilities.Capabilities;
+import mekanism.common.content.matrix.SynchronizedMatrixData;
 import mekanism.common.util.LangUtils;
 import mekanism.common.util.MekanismUtils;
 import net.minecraft.nbt.NBTTagCompound;
@@ -19,6 +20,9 @@ public class TileEntityInductionCell extends TileEntityBasicBlock implements ISt
 	
 	public double electricityStored;
 	
+	/** The formed matrix this cell is part of, which holds the up to date energy while it exists. Server side only. */
+	public SynchronizedMatrixData matrix;
+	
 	@Override
 	public void onUpdate() {}
 	
@@ -74,20 +78,46 @@ public class TileEntityInductionCell extends TileEntityBasicBlock implements ISt
 		super.writeToNBT(nbtTags);
 
 		nbtTags.setInteger("tier", tier.ordinal());
-		nbtTags.setDouble("electricityStored", electricityStored);
+		nbtTags.setDouble("electricityStored", getEnergy());
 		
 		return nbtTags;
 	}
 
+	@Override
+	public void invalidate()
+	{
+		super.invalidate();
+		
+		if(matrix != null)
+		{
+			matrix.removeCell(this);
+			matrix = null;
+		}
+	}
+
 	@Override
 	public double getEnergy() 
 	{
+		if(matrix != null)
+		{
+			matrix.writeEnergy(worldObj);
+		}
+		
 		return electricityStored;
 	}
 
 	@Override
 	public void setEnergy(double energy) 
 	{
+		if(matrix != null)
+		{
+			double prev = getEnergy();
+			electricityStored = Math.min(energy, getMaxEnergy());
+			matrix.setEnergy(worldObj, matrix.getEnergy()+electricityStored-prev);
+			
+			return;
+		}
+		
 		electricityStored = Math.min(energy, getMaxEnergy());
 	}
 
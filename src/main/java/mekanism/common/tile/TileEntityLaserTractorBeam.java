@@ -103,7 +103,7 @@ public class TileEntityLaserTractorBeam extends TileEntityContainerBlock impleme
 				{
 					on = true;
 					lastFired = firing;
-					Mekanism.packetHandler.sendToAllAround(new TileEntityMessage(Coord4D.get(this), getNetworkedData(new ArrayList<Object>())), Coord4D.get(this).getTargetPoint(50D));
+					Mekanism.packetHandler.sendToAllAround(new TileEntityMessage(Coord4D.get(this), this), Coord4D.get(this).getTargetPoint(50D));
 				}
 
 				LaserInfo info = LaserManager.fireLaser(this, facing, firing, worldObj);
@@ -140,7 +140,7 @@ public class TileEntityLaserTractorBeam extends TileEntityContainerBlock impleme
 			{
 				on = false;
 				diggingProgress = 0;
-				Mekanism.packetHandler.sendToAllAround(new TileEntityMessage(Coord4D.get(this), getNetworkedData(new ArrayList<Object>())), Coord4D.get(this).getTargetPoint(50D));
+				Mekanism.packetHandler.sendToAllAround(new TileEntityMessage(Coord4D.get(this), this), Coord4D.get(this).getTargetPoint(50D));
 			}
 		}
 	}
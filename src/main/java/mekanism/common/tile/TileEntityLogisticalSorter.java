@@ -3,7 +3,12 @@ package mekanism.common.tile;
 import io.netty.buffer.ByteBuf;
 
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.EnumSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
 
 import mekanism.api.Coord4D;
 import mekanism.api.EnumColor;
@@ -21,8 +26,8 @@ import mekanism.common.base.ISustainedData;
 import mekanism.common.block.states.BlockStateMachine;
 import mekanism.common.capabilities.Capabilities;
 import mekanism.common.content.transporter.Finder.FirstFinder;
+import mekanism.common.content.transporter.FilterIndex;
 import mekanism.common.content.transporter.InvStack;
-import mekanism.common.content.transporter.StackSearcher;
 import mekanism.common.content.transporter.TItemStackFilter;
 import mekanism.common.content.transporter.TransporterFilter;
 import mekanism.common.content.transporter.TransporterManager;
@@ -34,8 +39,8 @@ import mekanism.common.util.ItemDataUtils;
 import mekanism.common.util.MekanismUtils;
 import mekanism.common.util.TransporterUtils;
 import net.minecraft.entity.player.EntityPlayer;
-import net.minecraft.entity.player.EntityPlayerMP;
 import net.minecraft.inventory.IInventory;
+import net.minecraft.inventory.ISidedInventory;
 import net.minecraft.item.ItemStack;
 import net.minecraft.nbt.NBTTagCompound;
 import net.minecraft.nbt.NBTTagList;
@@ -72,6 +77,9 @@ public class TileEntityLogisticalSorter extends TileEntityElectricBlock implemen
 	
 	public TileComponentSecurity securityComponent = new TileComponentSecurity(this);
 
+	/** Index of the filters, rebuilt when they change. */
+	private FilterIndex filterLookup;
+
 	public TileEntityLogisticalSorter()
 	{
 		super("LogisticalSorter", BlockStateMachine.MachineType.LOGISTICAL_SORTER.baseEnergy);
@@ -102,48 +110,7 @@ public class TileEntityLogisticalSorter extends TileEntityElectricBlock implemen
 				{
 					IInventory inventory = InventoryUtils.checkChestInv((IInventory)back);
 
-					boolean sentItems = false;
-					int min = 0;
-
-					outer:
-					for(TransporterFilter filter : filters)
-					{
-						inner:
-						for(StackSearcher search = new StackSearcher(inventory, facing.getOpposite()); search.i >= 0;)
-						{
-							InvStack invStack = filter.getStackFromInventory(search);
-
-							if(invStack == null || invStack.getStack() == null)
-							{
-								break inner;
-							}
-
-							if(filter.canFilter(invStack.getStack()))
-							{
-								if(filter instanceof TItemStackFilter)
-								{
-									TItemStackFilter itemFilter = (TItemStackFilter)filter;
-
-									if(itemFilter.sizeMode)
-									{
-										min = itemFilter.min;
-									}
-								}
-
-								ItemStack used = emitItemToTransporter(front, invStack, filter.color, min);
-
-								if(used != null)
-								{
-									invStack.use(used.stackSize);
-									inventory.markDirty();
-									setActive(true);
-									sentItems = true;
-
-									break outer;
-								}
-							}
-						}
-					}
+					boolean sentItems = emitFilteredItems(inventory, front);
 
 					if(!sentItems && autoEject)
 					{
@@ -166,14 +133,161 @@ public class TileEntityLogisticalSorter extends TileEntityElectricBlock implemen
 				}
 			}
 
-			if(playersUsing.size() > 0)
+			if(isGuiSyncTick())
+			{
+				sendToPlayersUsing(new TileEntityMessage(Coord4D.get(this), this, getGenericPacket(new ArrayList<Object>())));
+			}
+		}
+	}
+	
+	/**
+	 * Sends the first stack in the inventory that a filter accepts, checking filters in the order they are listed. The
+	 * inventory is scanned once, and the filter index finds the filters that match each stack.
+	 * @param inventory - inventory behind the sorter
+	 * @param front - tile in front of the sorter
+	 * @return if any items were sent
+	 */
+	private boolean emitFilteredItems(IInventory inventory, TileEntity front)
+	{
+		if(filterLookup == null || filterLookup.version != filters.getVersion())
+		{
+			filterLookup = new FilterIndex(filters);
+		}
+
+		if(filterLookup.isEmpty())
+		{
+			return false;
+		}
+
+		Map<Integer, List<Integer>> matches = new TreeMap<Integer, List<Integer>>();
+
+		for(int slotID : getExtractSlots(inventory))
+		{
+			ItemStack stack = inventory.getStackInSlot(slotID);
+
+			if(stack == null || (inventory instanceof ISidedInventory && !((ISidedInventory)inventory).canExtractItem(slotID, stack, facing)))
+			{
+				continue;
+			}
+
+			BitSet found = filterLookup.getMatches(stack);
+
+			for(int i = found.nextSetBit(0); i >= 0; i = found.nextSetBit(i+1))
 			{
-				for(EntityPlayer player : playersUsing)
+				List<Integer> slots = matches.get(i);
+
+				if(slots == null)
 				{
-					Mekanism.packetHandler.sendTo(new TileEntityMessage(Coord4D.get(this), getGenericPacket(new ArrayList())), (EntityPlayerMP)player);
+					slots = new ArrayList<Integer>();
+					matches.put(i, slots);
 				}
+
+				slots.add(slotID);
 			}
 		}
+
+		for(Map.Entry<Integer, List<Integer>> entry : matches.entrySet())
+		{
+			TransporterFilter filter = filterLookup.filters.get(entry.getKey());
+
+			if(filter instanceof TItemStackFilter && ((TItemStackFilter)filter).sizeMode)
+			{
+				TItemStackFilter itemFilter = (TItemStackFilter)filter;
+				InvStack invStack = new InvStack(inventory);
+
+				//Gathers stacks up to the filter's maximum, and tries to send each batch that reaches its minimum
+				for(Iterator<Integer> iter = entry.getValue().iterator(); iter.hasNext();)
+				{
+					int slotID = iter.next();
+					ItemStack stack = inventory.getStackInSlot(slotID).copy();
+					int current = invStack.getStack() != null ? invStack.getStack().stackSize : 0;
+
+					stack.stackSize = Math.min(stack.stackSize, itemFilter.max-current);
+					invStack.appendStack(slotID, stack);
+
+					if(invStack.getStack().stackSize >= itemFilter.max || !iter.hasNext())
+					{
+						if(emitFilteredStack(inventory, front, invStack, filter, itemFilter.min))
+						{
+							return true;
+						}
+
+						invStack = new InvStack(inventory);
+					}
+				}
+			}
+			else {
+				for(int slotID : entry.getValue())
+				{
+					InvStack invStack = new InvStack(inventory, slotID, inventory.getStackInSlot(slotID).copy());
+
+					if(emitFilteredStack(inventory, front, invStack, filter, 0))
+					{
+						return true;
+					}
+				}
+			}
+		}
+
+		return false;
+	}
+
+	private boolean emitFilteredStack(IInventory inventory, TileEntity front, InvStack invStack, TransporterFilter filter, int min)
+	{
+		if(!filter.canFilter(invStack.getStack()))
+		{
+			return false;
+		}
+
+		ItemStack used = emitItemToTransporter(front, invStack, filter.color, min);
+
+		if(used != null)
+		{
+			invStack.use(used.stackSize);
+			inventory.markDirty();
+			setActive(true);
+
+			return true;
+		}
+
+		return false;
+	}
+
+	/**
+	 * Gets the slots items can be taken from, in the order the sorter searches them.
+	 * @param inventory - inventory behind the sorter
+	 * @return the slots, last slot first
+	 */
+	private int[] getExtractSlots(IInventory inventory)
+	{
+		int[] slots;
+
+		if(inventory instanceof ISidedInventory)
+		{
+			slots = ((ISidedInventory)inventory).getSlotsForFace(facing);
+
+			if(slots == null)
+			{
+				return new int[0];
+			}
+		}
+		else {
+			slots = new int[inventory.getSizeInventory()];
+
+			for(int i = 0; i < slots.length; i++)
+			{
+				slots[i] = i;
+			}
+		}
+
+		int[] ret = new int[slots.length];
+
+		for(int i = 0; i < slots.length; i++)
+		{
+			ret[i] = slots[slots.length-1-i];
+		}
+
+		return ret;
 	}
 	
 	/*
@@ -529,7 +643,7 @@ public class TileEntityLogisticalSorter extends TileEntityElectricBlock implemen
 	{
 		if(!worldObj.isRemote)
 		{
-			Mekanism.packetHandler.sendToReceivers(new TileEntityMessage(Coord4D.get(this), getFilterPacket(new ArrayList<Object>())), new Range4D(Coord4D.get(this)));
+			Mekanism.packetHandler.sendToReceivers(new TileEntityMessage(Coord4D.get(this), this, getFilterPacket(new ArrayList<Object>())), new Range4D(Coord4D.get(this)));
 		}
 	}
 
@@ -558,7 +672,7 @@ public class TileEntityLogisticalSorter extends TileEntityElectricBlock implemen
 
 		if(clientActive != active)
 		{
-			Mekanism.packetHandler.sendToReceivers(new TileEntityMessage(Coord4D.get(this), getNetworkedData(new ArrayList<Object>())), new Range4D(Coord4D.get(this)));
+			Mekanism.packetHandler.sendToReceivers(new TileEntityMessage(Coord4D.get(this), this), new Range4D(Coord4D.get(this)));
 
 			if(active && client.enableMachineSounds)
 			{
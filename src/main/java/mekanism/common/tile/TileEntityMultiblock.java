@@ -124,7 +124,7 @@ public abstract class TileEntityMultiblock<T extends SynchronizedData<T>> extend
 					}
 				}
 
-				Mekanism.packetHandler.sendToReceivers(new TileEntityMessage(Coord4D.get(this), getNetworkedData(new ArrayList<Object>())), new Range4D(Coord4D.get(this)));
+				Mekanism.packetHandler.sendToReceivers(new TileEntityMessage(Coord4D.get(this), this), new Range4D(Coord4D.get(this)));
 			}
 
 			prevStructure = structure != null;
@@ -146,10 +146,23 @@ public abstract class TileEntityMultiblock<T extends SynchronizedData<T>> extend
 	
 	@Override
 	public void doUpdate()
+	{
+		doUpdate(null);
+	}
+	
+	@Override
+	public void doUpdate(Coord4D changed)
 	{
 		if(!worldObj.isRemote && (structure == null || !getSynchronizedData().didTick))
 		{
-			getProtocol().doUpdate();
+			UpdateProtocol<T> protocol = getProtocol();
+			
+			if(changed != null && protocol.revalidate(changed))
+			{
+				return;
+			}
+			
+			protocol.doUpdate();
 
 			if(structure != null)
 			{
@@ -168,7 +181,7 @@ public abstract class TileEntityMultiblock<T extends SynchronizedData<T>> extend
 
 				if(tileEntity != null && tileEntity.isRendering)
 				{
-					Mekanism.packetHandler.sendToReceivers(new TileEntityMessage(Coord4D.get(tileEntity), tileEntity.getNetworkedData(new ArrayList<Object>())), new Range4D(Coord4D.get(tileEntity)));
+					Mekanism.packetHandler.sendToReceivers(new TileEntityMessage(Coord4D.get(tileEntity), tileEntity), new Range4D(Coord4D.get(tileEntity)));
 				}
 			}
 		}
@@ -243,6 +256,17 @@ public abstract class TileEntityMultiblock<T extends SynchronizedData<T>> extend
 		}
 	}
 	
+	@Override
+	public void invalidate()
+	{
+		super.invalidate();
+		
+		if(!worldObj.isRemote)
+		{
+			getManager().removeLocation(Coord4D.get(this));
+		}
+	}
+	
 	@Override
 	public void readFromNBT(NBTTagCompound nbtTags)
 	{
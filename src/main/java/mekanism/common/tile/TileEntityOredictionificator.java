@@ -24,7 +24,6 @@ import mekanism.common.util.InventoryUtils;
 import mekanism.common.util.ItemDataUtils;
 import mekanism.common.util.MekanismUtils;
 import net.minecraft.entity.player.EntityPlayer;
-import net.minecraft.entity.player.EntityPlayerMP;
 import net.minecraft.item.ItemStack;
 import net.minecraft.nbt.NBTTagCompound;
 import net.minecraft.nbt.NBTTagList;
@@ -61,12 +60,9 @@ public class TileEntityOredictionificator extends TileEntityContainerBlock imple
 	{
 		if(!worldObj.isRemote)
 		{
-			if(playersUsing.size() > 0)
+			if(isGuiSyncTick())
 			{
-				for(EntityPlayer player : playersUsing)
-				{
-					Mekanism.packetHandler.sendTo(new TileEntityMessage(Coord4D.get(this), getGenericPacket(new ArrayList())), (EntityPlayerMP)player);
-				}
+				sendToPlayersUsing(new TileEntityMessage(Coord4D.get(this), this, getGenericPacket(new ArrayList<Object>())));
 			}
 			
 			didProcess = false;
@@ -321,7 +317,7 @@ public class TileEntityOredictionificator extends TileEntityContainerBlock imple
 	{
 		if(!worldObj.isRemote)
 		{
-			Mekanism.packetHandler.sendToReceivers(new TileEntityMessage(Coord4D.get(this), getFilterPacket(new ArrayList<Object>())), new Range4D(Coord4D.get(this)));
+			Mekanism.packetHandler.sendToReceivers(new TileEntityMessage(Coord4D.get(this), this, getFilterPacket(new ArrayList<Object>())), new Range4D(Coord4D.get(this)));
 		}
 	}
 	
@@ -151,6 +151,22 @@ public class TileEntityQuantumEntangloporter extends TileEntityElectricBlock imp
 		return frequency != null && frequency.valid;
 	}
 	
+	@Override
+	public void onChunkUnload()
+	{
+		super.onChunkUnload();
+		
+		if(!worldObj.isRemote && frequency != null)
+		{
+			FrequencyManager manager = getManager(frequency);
+			
+			if(manager != null)
+			{
+				manager.deactivate(Coord4D.get(this));
+			}
+		}
+	}
+	
 	@Override
 	public void invalidate()
 	{
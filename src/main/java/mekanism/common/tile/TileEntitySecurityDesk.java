@@ -275,6 +275,22 @@ public class TileEntitySecurityDesk extends TileEntityContainerBlock implements
 		return data;
 	}
 	
+	@Override
+	public void onChunkUnload()
+	{
+		super.onChunkUnload();
+		
+		if(!worldObj.isRemote && frequency != null)
+		{
+			FrequencyManager manager = getManager(frequency);
+			
+			if(manager != null)
+			{
+				manager.deactivate(Coord4D.get(this));
+			}
+		}
+	}
+	
 	@Override
 	public void invalidate()
 	{
@@ -44,7 +44,7 @@ public class TileEntityStructuralGlass extends TileEntity implements IStructural
 			
 			if(masterTile instanceof IMultiblock)
 			{
-				((IMultiblock)masterTile).doUpdate();
+				((IMultiblock)masterTile).doUpdate(Coord4D.get(this));
 			}
 			else {
 				master = null;
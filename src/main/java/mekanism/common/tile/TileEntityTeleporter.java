@@ -4,6 +4,7 @@ import io.netty.buffer.ByteBuf;
 
 import java.lang.reflect.Method;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
@@ -35,6 +36,7 @@ import mekanism.common.tile.component.TileComponentSecurity;
 import mekanism.common.tile.component.TileComponentUpgrade;
 import mekanism.common.util.ChargeUtils;
 import mekanism.common.util.MekanismUtils;
+import net.minecraft.block.Block;
 import net.minecraft.block.state.IBlockState;
 import net.minecraft.entity.Entity;
 import net.minecraft.entity.EntityList;
@@ -47,12 +49,16 @@ import net.minecraft.network.play.server.SPacketRespawn;
 import net.minecraft.network.play.server.SPacketSetExperience;
 import net.minecraft.potion.PotionEffect;
 import net.minecraft.server.MinecraftServer;
+import net.minecraft.tileentity.TileEntity;
+import net.minecraft.util.ClassInheritanceMultiMap;
 import net.minecraft.util.EnumFacing;
 import net.minecraft.util.math.AxisAlignedBB;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.util.math.ChunkPos;
+import net.minecraft.util.math.MathHelper;
 import net.minecraft.world.World;
 import net.minecraft.world.WorldServer;
+import net.minecraft.world.chunk.Chunk;
 import net.minecraftforge.fml.common.FMLCommonHandler;
 import net.minecraftforge.fml.relauncher.Side;
 import net.minecraftforge.fml.relauncher.SideOnly;
@@ -81,6 +87,14 @@ public class TileEntityTeleporter extends TileEntityElectricBlock implements ICo
 	
 	public RedstoneControl controlType = RedstoneControl.DISABLED;
 	
+	/** Whether this teleporter has a frame, or null if it needs checking again. */
+	private Boolean cachedFrame;
+	
+	/** The closest teleporter on this teleporter's frequency, as of the frequency's active version it was found for. */
+	private Coord4D cachedClosest;
+	private Frequency closestFrequency;
+	private int closestVersion;
+	
 	public TileComponentSecurity securityComponent;
 	public TileComponentChunkLoader chunkLoaderComponent;
 	public TileComponentUpgrade upgradeComponent;
@@ -143,7 +157,7 @@ public class TileEntityTeleporter extends TileEntityElectricBlock implements ICo
 
 			if(shouldRender != prevShouldRender)
 			{
-				Mekanism.packetHandler.sendToAllAround(new TileEntityMessage(Coord4D.get(this), getNetworkedData(new ArrayList())), Coord4D.get(this).getTargetPoint(40D));
+				Mekanism.packetHandler.sendToAllAround(new TileEntityMessage(Coord4D.get(this), this), Coord4D.get(this).getTargetPoint(40D));
 			}
 
 			prevShouldRender = shouldRender;
@@ -167,12 +181,20 @@ public class TileEntityTeleporter extends TileEntityElectricBlock implements ICo
 	
 	public Coord4D getClosest()
 	{
-		if(frequency != null)
+		if(frequency == null)
+		{
+			return null;
+		}
+		
+		//Only worked out again once teleporters have joined or left the frequency
+		if(frequency != closestFrequency || frequency.getActiveVersion() != closestVersion)
 		{
-			return frequency.getClosestCoords(Coord4D.get(this));
+			cachedClosest = frequency.getClosestCoords(Coord4D.get(this));
+			closestFrequency = frequency;
+			closestVersion = frequency.getActiveVersion();
 		}
 		
-		return null;
+		return cachedClosest;
 	}
 	
 	public void setFrequency(String name, boolean publicFreq)
@@ -271,7 +293,7 @@ public class TileEntityTeleporter extends TileEntityElectricBlock implements ICo
 	{
 		List<UUID> list = new ArrayList<UUID>();
 		
-		for(Entity e : (List<Entity>)worldObj.getEntitiesWithinAABB(Entity.class, teleportBounds))
+		for(Entity e : getEntitiesInPortal())
 		{
 			list.add(e.getPersistentID());
 		}
@@ -509,7 +531,7 @@ public class TileEntityTeleporter extends TileEntityElectricBlock implements ICo
 
 	public List<Entity> getToTeleport()
 	{
-		List<Entity> entities = worldObj.getEntitiesWithinAABB(Entity.class, teleportBounds);
+		List<Entity> entities = getEntitiesInPortal();
 		List<Entity> ret = new ArrayList<Entity>();
 
 		for(Entity entity : entities)
@@ -523,6 +545,57 @@ public class TileEntityTeleporter extends TileEntityElectricBlock implements ICo
 		return ret;
 	}
 
+	private List<Entity> getEntitiesInPortal()
+	{
+		if(!isPortalOccupied())
+		{
+			return Collections.emptyList();
+		}
+		
+		return worldObj.getEntitiesWithinAABB(Entity.class, teleportBounds);
+	}
+	
+	/**
+	 * Checks whether any entity is stored in the chunk sections an entity in the portal could be in, using the same margin
+	 * as World.getEntitiesWithinAABB(). This is far cheaper than searching for entities, so an empty portal can skip the
+	 * search altogether.
+	 * @return false if there can't be any entities in the portal
+	 */
+	private boolean isPortalOccupied()
+	{
+		int minX = MathHelper.floor_double((teleportBounds.minX - World.MAX_ENTITY_RADIUS) / 16.0D);
+		int maxX = MathHelper.floor_double((teleportBounds.maxX + World.MAX_ENTITY_RADIUS) / 16.0D);
+		int minY = MathHelper.floor_double((teleportBounds.minY - World.MAX_ENTITY_RADIUS) / 16.0D);
+		int maxY = MathHelper.floor_double((teleportBounds.maxY + World.MAX_ENTITY_RADIUS) / 16.0D);
+		int minZ = MathHelper.floor_double((teleportBounds.minZ - World.MAX_ENTITY_RADIUS) / 16.0D);
+		int maxZ = MathHelper.floor_double((teleportBounds.maxZ + World.MAX_ENTITY_RADIUS) / 16.0D);
+		
+		for(int x = minX; x <= maxX; x++)
+		{
+			for(int z = minZ; z <= maxZ; z++)
+			{
+				Chunk chunk = worldObj.getChunkProvider().getLoadedChunk(x, z);
+				
+				if(chunk == null)
+				{
+					continue;
+				}
+				
+				ClassInheritanceMultiMap<Entity>[] entityLists = chunk.getEntityLists();
+				
+				for(int y = Math.max(minY, 0); y <= Math.min(maxY, entityLists.length-1); y++)
+				{
+					if(!entityLists[y].isEmpty())
+					{
+						return true;
+					}
+				}
+			}
+		}
+		
+		return false;
+	}
+
 	public int calculateEnergyCost(Entity entity, Coord4D coords)
 	{
 		int energyCost = 1000;
@@ -539,6 +612,16 @@ public class TileEntityTeleporter extends TileEntityElectricBlock implements ICo
 	}
 
 	public boolean hasFrame()
+	{
+		if(cachedFrame == null)
+		{
+			cachedFrame = checkFrame();
+		}
+		
+		return cachedFrame;
+	}
+	
+	private boolean checkFrame()
 	{
 		if(isFrame(getPos().getX()-1, getPos().getY(), getPos().getZ()) && isFrame(getPos().getX()+1, getPos().getY(), getPos().getZ())
 				&& isFrame(getPos().getX()-1, getPos().getY()+1, getPos().getZ()) && isFrame(getPos().getX()+1, getPos().getY()+1, getPos().getZ())
@@ -553,6 +636,46 @@ public class TileEntityTeleporter extends TileEntityElectricBlock implements ICo
 		return false;
 	}
 
+	/**
+	 * Clears the cached frame state of every teleporter a frame block at the given position could be part of. Called when
+	 * a frame block is placed or broken, as most frame blocks aren't next to the teleporter and so don't notify it.
+	 * @param world - world the frame block is in
+	 * @param pos - position of the frame block
+	 */
+	public static void onFrameChanged(World world, BlockPos pos)
+	{
+		for(int y = 0; y <= 3; y++)
+		{
+			for(EnumFacing side : MekanismUtils.SIDE_DIRS)
+			{
+				resetFrame(world, pos.down(y).offset(side));
+			}
+		}
+		
+		resetFrame(world, pos.down(3));
+	}
+	
+	private static void resetFrame(World world, BlockPos pos)
+	{
+		if(world.isBlockLoaded(pos))
+		{
+			TileEntity tile = world.getTileEntity(pos);
+			
+			if(tile instanceof TileEntityTeleporter)
+			{
+				((TileEntityTeleporter)tile).cachedFrame = null;
+			}
+		}
+	}
+	
+	@Override
+	public void onNeighborChange(Block block)
+	{
+		super.onNeighborChange(block);
+		
+		cachedFrame = null;
+	}
+
 	public boolean isFrame(int x, int y, int z)
 	{
 		IBlockState state = worldObj.getBlockState(new BlockPos(x, y, z));
@@ -148,7 +148,7 @@ public class TileEntityThermalEvaporationController extends TileEntityThermalEva
 			{
 				if(Math.abs((float)inputTank.getFluidAmount()/inputTank.getCapacity()-prevScale) > 0.01)
 				{
-					Mekanism.packetHandler.sendToReceivers(new TileEntityMessage(Coord4D.get(this), getNetworkedData(new ArrayList<Object>())), new Range4D(Coord4D.get(this)));
+					Mekanism.packetHandler.sendToReceivers(new TileEntityMessage(Coord4D.get(this), this), new Range4D(Coord4D.get(this)));
 					prevScale = (float)inputTank.getFluidAmount()/inputTank.getCapacity();
 				}
 			}
@@ -197,7 +197,7 @@ public class TileEntityThermalEvaporationController extends TileEntityThermalEva
 				
 				if(structured != clientStructured)
 				{
-					Mekanism.packetHandler.sendToReceivers(new TileEntityMessage(Coord4D.get(this), getNetworkedData(new ArrayList())), new Range4D(Coord4D.get(this)));
+					Mekanism.packetHandler.sendToReceivers(new TileEntityMessage(Coord4D.get(this), this), new Range4D(Coord4D.get(this)));
 					clientStructured = structured;
 				}
 				
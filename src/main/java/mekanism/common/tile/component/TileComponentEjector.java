@@ -3,6 +3,7 @@ package mekanism.common.tile.component;
 import io.netty.buffer.ByteBuf;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -12,6 +13,7 @@ import mekanism.api.EnumColor;
 import mekanism.api.gas.GasStack;
 import mekanism.api.gas.GasTank;
 import mekanism.api.gas.GasTransmission;
+import mekanism.api.gas.IGasHandler;
 import mekanism.api.transmitters.TransmissionType;
 import mekanism.api.util.CapabilityUtils;
 import mekanism.common.SideData;
@@ -32,6 +34,8 @@ import net.minecraft.tileentity.TileEntity;
 import net.minecraft.util.EnumFacing;
 import net.minecraftforge.fluids.FluidStack;
 import net.minecraftforge.fluids.FluidTank;
+import net.minecraftforge.fluids.capability.CapabilityFluidHandler;
+import net.minecraftforge.fluids.capability.IFluidHandler;
 
 public class TileComponentEjector implements ITileComponent
 {
@@ -51,6 +55,10 @@ public class TileComponentEjector implements ITileComponent
 	
 	public static final int GAS_OUTPUT = 256;
 	public static final int FLUID_OUTPUT = 256;
+	
+	/** Neighbouring tiles by side, valid where neighbourCached is set. */
+	private TileEntity[] neighbours = new TileEntity[6];
+	private boolean[] neighbourCached = new boolean[6];
 
 	public TileComponentEjector(TileEntityContainerBlock tile)
 	{
@@ -113,7 +121,6 @@ public class TileComponentEjector implements ITileComponent
 			if(sideData.get(TransmissionType.GAS) != null && getEjecting(TransmissionType.GAS))
 			{
 				SideData data = sideData.get(TransmissionType.GAS);
-				List<EnumFacing> outputSides = getOutputSides(TransmissionType.GAS, data);
 				
 				if(((ITankManager)tileEntity).getTanks() != null)
 				{
@@ -121,9 +128,26 @@ public class TileComponentEjector implements ITileComponent
 					
 					if(tank.getStored() > 0)
 					{
-						GasStack toEmit = tank.getGas().copy().withAmount(Math.min(GAS_OUTPUT, tank.getStored()));
-						int emit = GasTransmission.emit(toEmit, tileEntity, outputSides);
-						tank.draw(emit, true);
+						IGasHandler[] acceptors = new IGasHandler[6];
+						boolean found = false;
+						
+						for(EnumFacing side : getOutputSides(TransmissionType.GAS, data))
+						{
+							TileEntity tile = getNeighbour(side);
+							
+							if(CapabilityUtils.hasCapability(tile, Capabilities.GAS_HANDLER_CAPABILITY, side.getOpposite()))
+							{
+								acceptors[side.ordinal()] = CapabilityUtils.getCapability(tile, Capabilities.GAS_HANDLER_CAPABILITY, side.getOpposite());
+								found |= acceptors[side.ordinal()] != null;
+							}
+						}
+						
+						if(found)
+						{
+							GasStack toEmit = tank.getGas().copy().withAmount(Math.min(GAS_OUTPUT, tank.getStored()));
+							int emit = GasTransmission.emit(toEmit, acceptors);
+							tank.draw(emit, true);
+						}
 					}
 				}
 			}
@@ -131,7 +155,6 @@ public class TileComponentEjector implements ITileComponent
 			if(sideData.get(TransmissionType.FLUID) != null && getEjecting(TransmissionType.FLUID))
 			{
 				SideData data = sideData.get(TransmissionType.FLUID);
-				List<EnumFacing> outputSides = getOutputSides(TransmissionType.FLUID, data);
 				
 				if(((ITankManager)tileEntity).getTanks() != null)
 				{
@@ -139,15 +162,63 @@ public class TileComponentEjector implements ITileComponent
 					
 					if(tank.getFluidAmount() > 0)
 					{
-						FluidStack toEmit = PipeUtils.copy(tank.getFluid(), Math.min(FLUID_OUTPUT, tank.getFluidAmount()));
-						int emit = PipeUtils.emit(outputSides, toEmit, tileEntity);
-						tank.drain(emit, true);
+						IFluidHandler[] acceptors = new IFluidHandler[6];
+						boolean found = false;
+						
+						for(EnumFacing side : getOutputSides(TransmissionType.FLUID, data))
+						{
+							TileEntity tile = getNeighbour(side);
+							
+							if(CapabilityUtils.hasCapability(tile, CapabilityFluidHandler.FLUID_HANDLER_CAPABILITY, side.getOpposite()))
+							{
+								acceptors[side.ordinal()] = CapabilityUtils.getCapability(tile, CapabilityFluidHandler.FLUID_HANDLER_CAPABILITY, side.getOpposite());
+								found |= acceptors[side.ordinal()] != null;
+							}
+						}
+						
+						if(found)
+						{
+							FluidStack toEmit = PipeUtils.copy(tank.getFluid(), Math.min(FLUID_OUTPUT, tank.getFluidAmount()));
+							int emit = PipeUtils.emit(acceptors, toEmit);
+							tank.drain(emit, true);
+						}
 					}
 				}
 			}
 		}
 	}
 	
+	/**
+	 * Gets the tile on a side of this machine. Tiles are looked up once and kept until a neighbour changes or the tile is
+	 * invalidated; sides in chunks that aren't loaded are looked up again next time.
+	 * @param side - side to get the tile on
+	 * @return the neighbouring tile, or null if there is none
+	 */
+	private TileEntity getNeighbour(EnumFacing side)
+	{
+		int i = side.ordinal();
+		Coord4D coord = Coord4D.get(tileEntity).offset(side);
+		
+		//Unloading a chunk doesn't invalidate its tiles, so a cached tile is only used while its chunk is still loaded
+		if(!coord.exists(tileEntity.getWorld()))
+		{
+			neighbours[i] = null;
+			neighbourCached[i] = false;
+			
+			return null;
+		}
+		
+		if(neighbourCached[i] && (neighbours[i] == null || !neighbours[i].isInvalid()))
+		{
+			return neighbours[i];
+		}
+		
+		neighbours[i] = coord.getTileEntity(tileEntity.getWorld());
+		neighbourCached[i] = true;
+		
+		return neighbours[i];
+	}
+	
 	public List<EnumFacing> getOutputSides(TransmissionType type, SideData data)
 	{
 		List<EnumFacing> outputSides = new ArrayList<EnumFacing>();
@@ -175,10 +246,29 @@ public class TileComponentEjector implements ITileComponent
 
 		SideData data = sideData.get(TransmissionType.ITEM);
 		List<EnumFacing> outputSides = getOutputSides(TransmissionType.ITEM, data);
+		
+		//Each output side is looked up once for all the slots, and there's nothing to do if none has a tile on it
+		TileEntity[] targets = new TileEntity[6];
+		boolean found = false;
+		
+		for(EnumFacing side : outputSides)
+		{
+			targets[side.ordinal()] = getNeighbour(side);
+			found |= targets[side.ordinal()] != null;
+		}
+		
+		tickDelay = 20;
+		
+		if(!found)
+		{
+			return;
+		}
+		
+		boolean changed = false;
 
-		for(int index = 0; index < sideData.get(TransmissionType.ITEM).availableSlots.length; index++)
+		for(int index = 0; index < data.availableSlots.length; index++)
 		{
-			int slotID = sideData.get(TransmissionType.ITEM).availableSlots[index];
+			int slotID = data.availableSlots[index];
 
 			if(tileEntity.getStackInSlot(slotID) == null)
 			{
@@ -186,12 +276,19 @@ public class TileComponentEjector implements ITileComponent
 			}
 
 			ItemStack stack = tileEntity.getStackInSlot(slotID);
+			int startSize = stack.stackSize;
 			List<EnumFacing> outputs = getTrackedOutputs(TransmissionType.ITEM, index, outputSides);
 
 			for(EnumFacing side : outputs)
 			{
-				TileEntity tile = Coord4D.get(tileEntity).offset(side).getTileEntity(tileEntity.getWorld());
-				ItemStack prev = stack.copy();
+				TileEntity tile = targets[side.ordinal()];
+				
+				if(tile == null)
+				{
+					continue;
+				}
+				
+				int prevSize = stack.stackSize;
 
 				if(tile instanceof IInventory && !(CapabilityUtils.hasCapability(tile, Capabilities.LOGISTICAL_TRANSPORTER_CAPABILITY, side.getOpposite())))
 				{
@@ -207,7 +304,7 @@ public class TileComponentEjector implements ITileComponent
 					}
 				}
 
-				if(stack == null || prev.stackSize != stack.stackSize)
+				if(stack == null || prevSize != stack.stackSize)
 				{
 					trackers.get(TransmissionType.ITEM)[index] = side.ordinal();
 				}
@@ -218,11 +315,18 @@ public class TileComponentEjector implements ITileComponent
 				}
 			}
 
-			tileEntity.setInventorySlotContents(slotID, stack);
+			//Slots that nothing could be ejected from are left alone
+			if(stack == null || stack.stackSize != startSize)
+			{
+				tileEntity.setInventorySlotContents(slotID, stack);
+				changed = true;
+			}
+		}
+		
+		if(changed)
+		{
 			tileEntity.markDirty();
 		}
-
-		tickDelay = 20;
 	}
 
 	public boolean hasStrictInput()
@@ -380,6 +484,13 @@ public class TileComponentEjector implements ITileComponent
 	@Override
 	public void invalidate() {}
 	
+	@Override
+	public void onNeighborChange()
+	{
+		Arrays.fill(neighbours, null);
+		Arrays.fill(neighbourCached, false);
+	}
+	
 	private boolean getEjecting(TransmissionType type)
 	{
 		return ((ISideConfiguration)tileEntity).getConfig().isEjecting(type);
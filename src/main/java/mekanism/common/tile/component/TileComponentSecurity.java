@@ -214,6 +214,17 @@ public class TileComponentSecurity implements ITileComponent
 	
 	@Override
 	public void invalidate()
+	{
+		deactivate();
+	}
+	
+	@Override
+	public void onChunkUnload()
+	{
+		deactivate();
+	}
+	
+	private void deactivate()
 	{
 		if(!tileEntity.getWorld().isRemote)
 		{
@@ -82,7 +82,7 @@ public class TileComponentUpgrade implements ITileComponent
 							tileEntity.inventory[upgradeSlot] = null;
 						}
 
-						Mekanism.packetHandler.sendToReceivers(new TileEntityMessage(Coord4D.get(tileEntity), tileEntity.getNetworkedData(new ArrayList<Object>())), new Range4D(Coord4D.get(tileEntity)));
+						Mekanism.packetHandler.sendToReceivers(new TileEntityMessage(Coord4D.get(tileEntity), tileEntity), new Range4D(Coord4D.get(tileEntity)));
 						tileEntity.markDirty();
 					}
 				}
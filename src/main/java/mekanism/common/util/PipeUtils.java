@@ -88,6 +88,17 @@ public final class PipeUtils
 	 * @return the amount of gas emitted
 	 */
 	public static int emit(List<EnumFacing> sides, FluidStack stack, TileEntity from)
+	{
+		return emit(getConnectedAcceptors(from), stack);
+	}
+	
+	/**
+	 * Emits fluid to acceptors that have already been looked up, by splitting the received stack among them.
+	 * @param possibleAcceptors - the acceptors to output to, indexed by the side they are on; null where there are none
+	 * @param stack - the stack to output
+	 * @return the amount of fluid emitted
+	 */
+	public static int emit(IFluidHandler[] possibleAcceptors, FluidStack stack)
 	{
 		if(stack == null)
 		{
@@ -95,7 +106,6 @@ public final class PipeUtils
 		}
 		
 		List<IFluidHandler> availableAcceptors = new ArrayList<IFluidHandler>();
-		IFluidHandler[] possibleAcceptors = getConnectedAcceptors(from);
 		
 		for(int i = 0; i < possibleAcceptors.length; i++)
 		{
@@ -1,213 +1,280 @@
 package mekanism.common.voice;
 
-import java.io.BufferedInputStream;
-import java.io.BufferedOutputStream;
-import java.io.DataInputStream;
-import java.io.DataOutputStream;
-import java.net.Socket;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.SocketChannel;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
-import java.util.Collections;
+import java.util.Deque;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 import mekanism.common.Mekanism;
 import mekanism.common.item.ItemWalkieTalkie;
+import mekanism.common.voice.VoiceServerManager.Frame;
+import net.minecraft.entity.player.EntityPlayer;
 import net.minecraft.entity.player.EntityPlayerMP;
 import net.minecraft.item.ItemStack;
 import net.minecraft.server.MinecraftServer;
 import net.minecraftforge.fml.common.FMLCommonHandler;
 
-public class VoiceConnection extends Thread
+/**
+ * A client's connection to the voice server. The socket is non-blocking and is only read and written from the voice
+ * server's relay thread; the channels the player speaks and listens on are worked out on the server thread.
+ */
+public class VoiceConnection
 {
-	public Socket socket;
+	/** How long the relay thread keeps trying to trace a connection to a player before dropping it, in milliseconds. */
+	public static final long TRACE_TIMEOUT = 5000;
+
+	/** Frames that can be waiting for a client that isn't keeping up; any more are dropped rather than delayed. */
+	public static final int MAX_QUEUED_FRAMES = 32;
+
+	public SocketChannel socket;
+
+	public SelectionKey key;
 
 	public String username;
 
 	public boolean open = true;
 
-	public DataInputStream input;
-	public DataOutputStream output;
+	public int traceAttempts;
+
+	/** Time after which an untraced connection is dropped, from System.currentTimeMillis(). */
+	public long traceDeadline = System.currentTimeMillis() + TRACE_TIMEOUT;
+
+	/** Channel the player is speaking on, or 0 if the item they are holding isn't a walkie-talkie that is on. */
+	public volatile int speakingChannel;
+
+	/** Channels the player can hear, as of the last inventory check. Only used from the server thread. */
+	public Set<Integer> listening = new HashSet<Integer>();
 
 	public MinecraftServer server = FMLCommonHandler.instance().getMinecraftServerInstance();
 
-	public VoiceConnection(Socket s)
+	private ByteBuffer readBuffer = ByteBuffer.allocateDirect(2 + Short.MAX_VALUE);
+
+	private Deque<Frame> writeQueue = new ArrayDeque<Frame>();
+
+	private ByteBuffer writing;
+
+	public VoiceConnection(SocketChannel s)
 	{
 		socket = s;
 	}
 
-	@Override
-	public void run()
+	/**
+	 * Tries to match this connection's address to an online player.
+	 * @return true if the connection has been traced
+	 */
+	public boolean trace()
 	{
 		try {
-			input = new DataInputStream(new BufferedInputStream(socket.getInputStream()));
-			output = new DataOutputStream(new BufferedOutputStream(socket.getOutputStream()));
+			List l = new ArrayList(server.getPlayerList().getPlayerList());
 
-			synchronized(Mekanism.voiceManager)
+			for(Object obj : l)
 			{
-				int retryCount = 0;
-
-				while(username == null && retryCount <= 100)
+				if(obj instanceof EntityPlayerMP)
 				{
-					try {
-						List l = Collections.synchronizedList((List)((ArrayList)server.getPlayerList().getPlayerList()).clone());
-
-						for(Object obj : l)
-						{
-							if(obj instanceof EntityPlayerMP)
-							{
-								EntityPlayerMP playerMP = (EntityPlayerMP)obj;
-								String playerIP = playerMP.getPlayerIP();
-
-								if(!server.isDedicatedServer() && playerIP.equals("local") && !Mekanism.voiceManager.foundLocal)
-								{
-									Mekanism.voiceManager.foundLocal = true;
-									username = playerMP.getName();
-									break;
-								}
-								else if(playerIP.equals(socket.getInetAddress().getHostAddress()))
-								{
-									username = playerMP.getName();
-									break;
-								}
-							}
-						}
-
-						retryCount++;
-						Thread.sleep(50);
-					} catch(Exception e) {}
-				}
+					EntityPlayerMP playerMP = (EntityPlayerMP)obj;
+					String playerIP = playerMP.getPlayerIP();
 
-				if(username == null)
-				{
-					Mekanism.logger.error("VoiceServer: Unable to trace connection's IP address.");
-					kill();
-					return;
-				}
-				else {
-					Mekanism.logger.info("VoiceServer: Traced IP in " + retryCount + " attempts.");
+					if(!server.isDedicatedServer() && playerIP.equals("local") && !Mekanism.voiceManager.foundLocal)
+					{
+						Mekanism.voiceManager.foundLocal = true;
+						username = playerMP.getName();
+						break;
+					}
+					else if(playerIP.equals(socket.socket().getInetAddress().getHostAddress()))
+					{
+						username = playerMP.getName();
+						break;
+					}
 				}
 			}
-		} catch(Exception e) {
-			Mekanism.logger.error("VoiceServer: Error while starting server-based connection.");
-			e.printStackTrace();
-			open = false;
+		} catch(Exception e) {}
+
+		traceAttempts++;
+
+		if(username != null)
+		{
+			Mekanism.voiceManager.playerConnections.put(username, this);
+			Mekanism.logger.info("VoiceServer: Traced IP in " + traceAttempts + " attempts.");
+
+			return true;
+		}
+		else if(System.currentTimeMillis() > traceDeadline)
+		{
+			Mekanism.logger.error("VoiceServer: Unable to trace connection's IP address.");
+			kill();
 		}
 
-		//Main client listen thread
-		new Thread(new Runnable()
+		return false;
+	}
+
+	/**
+	 * Reads what the client has sent, and relays each complete frame.
+	 * @throws IOException if the connection has failed or sent an invalid frame
+	 */
+	public void read() throws IOException
+	{
+		if(socket.read(readBuffer) < 0)
 		{
-			@Override
-			public void run()
+			kill();
+			return;
+		}
+
+		readBuffer.flip();
+
+		while(readBuffer.remaining() >= 2)
+		{
+			short byteCount = readBuffer.getShort(readBuffer.position());
+
+			if(byteCount < 0)
 			{
-				while(open)
-				{
-					try {
-						short byteCount = VoiceConnection.this.input.readShort();
-						byte[] audioData = new byte[byteCount];
-						VoiceConnection.this.input.readFully(audioData);
-
-						if(byteCount > 0)
-						{
-							Mekanism.voiceManager.sendToPlayers(byteCount, audioData, VoiceConnection.this);
-						}
-					} catch(Exception e) {
-						open = false;
-					}
-				}
+				throw new IOException("Invalid audio frame length " + byteCount);
+			}
 
-				if(!open)
-				{
-					kill();
-				}
+			if(readBuffer.remaining() < 2 + byteCount)
+			{
+				break;
+			}
+
+			if(byteCount > 0 && username != null)
+			{
+				Mekanism.voiceManager.sendToPlayers(byteCount, readBuffer, this);
 			}
-		}).start();
+
+			readBuffer.position(readBuffer.position() + 2 + byteCount);
+		}
+
+		readBuffer.compact();
 	}
 
-	public void kill()
+	/**
+	 * Queues a frame for this client, and sends as much as the socket will take straight away.
+	 * @param frame - frame to send
+	 */
+	public void sendToPlayer(Frame frame)
 	{
+		if(!open || writeQueue.size() >= MAX_QUEUED_FRAMES)
+		{
+			return;
+		}
+
+		frame.references++;
+		writeQueue.add(frame);
+
 		try {
-			input.close();
-			output.close();
-			socket.close();
+			write();
+		} catch(IOException e) {
+			kill();
+		}
+	}
 
-			Mekanism.voiceManager.connections.remove(this);
-		} catch(Exception e) {
-			Mekanism.logger.error("VoiceServer: Error while stopping server-based connection.");
-			e.printStackTrace();
+	/**
+	 * Sends queued frames until the queue is empty or the socket is full, in which case the rest are sent when the
+	 * socket is writable again.
+	 * @throws IOException if the connection has failed
+	 */
+	public void write() throws IOException
+	{
+		while(!writeQueue.isEmpty())
+		{
+			if(writing == null)
+			{
+				writing = writeQueue.peek().buffer.duplicate();
+			}
+
+			socket.write(writing);
+
+			if(writing.hasRemaining())
+			{
+				break;
+			}
+
+			writing = null;
+			Mekanism.voiceManager.release(writeQueue.poll());
+		}
+
+		if(key != null && key.isValid())
+		{
+			key.interestOps(writeQueue.isEmpty() ? SelectionKey.OP_READ : SelectionKey.OP_READ | SelectionKey.OP_WRITE);
 		}
 	}
 
-	public void sendToPlayer(short byteCount, byte[] audioData, VoiceConnection connection)
+	public void kill()
 	{
 		if(!open)
 		{
-			kill();
+			return;
 		}
 
-		try {
-			output.writeShort(byteCount);
-			output.write(audioData);
+		open = false;
 
-			output.flush();
+		try {
+			socket.close();
 		} catch(Exception e) {
-			Mekanism.logger.error("VoiceServer: Error while sending data to player.");
+			Mekanism.logger.error("VoiceServer: Error while stopping server-based connection.");
 			e.printStackTrace();
 		}
+
+		for(Frame frame : writeQueue)
+		{
+			Mekanism.voiceManager.release(frame);
+		}
+
+		writeQueue.clear();
+		writing = null;
+
+		Mekanism.voiceManager.onKilled(this);
 	}
 
-	public boolean canListen(int channel)
+	/**
+	 * Gets the channels the player can hear, from the walkie-talkies in their inventory that are on.
+	 * @param player - the player using this connection
+	 * @return the channels they can hear
+	 */
+	public Set<Integer> getListenChannels(EntityPlayer player)
 	{
-		for(ItemStack itemStack : getPlayer().inventory.mainInventory)
+		Set<Integer> channels = new HashSet<Integer>();
+
+		for(ItemStack itemStack : player.inventory.mainInventory)
 		{
-			if(canListen(channel, itemStack))
-			{
-				return true;
-			}
+			addChannel(channels, itemStack);
 		}
-		
-		for(ItemStack itemStack : getPlayer().inventory.offHandInventory)
+
+		for(ItemStack itemStack : player.inventory.offHandInventory)
 		{
-			if(canListen(channel, itemStack))
-			{
-				return true;
-			}
+			addChannel(channels, itemStack);
 		}
 
-		return false;
+		return channels;
 	}
-	
-	public boolean canListen(int channel, ItemStack itemStack)
+
+	private void addChannel(Set<Integer> channels, ItemStack itemStack)
 	{
-		if(itemStack != null)
+		if(itemStack != null && itemStack.getItem() instanceof ItemWalkieTalkie)
 		{
-			if(itemStack.getItem() instanceof ItemWalkieTalkie)
+			if(((ItemWalkieTalkie)itemStack.getItem()).getOn(itemStack))
 			{
-				if(((ItemWalkieTalkie)itemStack.getItem()).getOn(itemStack))
-				{
-					if(((ItemWalkieTalkie)itemStack.getItem()).getChannel(itemStack) == channel)
-					{
-						return true;
-					}
-				}
+				channels.add(((ItemWalkieTalkie)itemStack.getItem()).getChannel(itemStack));
 			}
 		}
-		
-		return false;
 	}
 
-	public int getCurrentChannel()
+	public int getCurrentChannel(EntityPlayer player)
 	{
-		ItemStack itemStack = getPlayer().inventory.getCurrentItem();
+		ItemStack itemStack = player.inventory.getCurrentItem();
 
-		if(itemStack != null)
+		if(itemStack != null && itemStack.getItem() instanceof ItemWalkieTalkie)
 		{
 			ItemWalkieTalkie walkieTalkie = (ItemWalkieTalkie)itemStack.getItem();
 
-			if(walkieTalkie != null)
+			if(walkieTalkie.getOn(itemStack))
 			{
-				if(walkieTalkie.getOn(itemStack))
-				{
-					return walkieTalkie.getChannel(itemStack);
-				}
+				return walkieTalkie.getChannel(itemStack);
 			}
 		}
 
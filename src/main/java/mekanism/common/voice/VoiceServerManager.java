@@ -1,35 +1,75 @@
 package mekanism.common.voice;
 
-import java.net.ServerSocket;
-import java.net.Socket;
-import java.net.SocketException;
-import java.util.HashSet;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import mekanism.api.MekanismConfig.general;
 import mekanism.common.Mekanism;
+import net.minecraft.entity.player.EntityPlayer;
 
+/**
+ * Relays walkie-talkie audio between clients. All connections are served by one thread, using a selector, so the number of
+ * threads doesn't grow with the number of players. Audio is sent to the players subscribed to the speaker's channel, and
+ * the subscriptions are kept up to date from the server thread, and from packet handlers when a walkie-talkie changes.
+ */
 public class VoiceServerManager
 {
-	public Set<VoiceConnection> connections = new HashSet<VoiceConnection>();
+	/** Size of the pooled frame buffers, enough for the audio chunks clients send. Larger frames get a buffer of their own. */
+	private static final int POOLED_FRAME_SIZE = 4096;
 
-	public ServerSocket serverSocket;
+	private static final int MAX_POOLED_FRAMES = 64;
 
-	public boolean running;
+	public Set<VoiceConnection> connections = Collections.newSetFromMap(new ConcurrentHashMap<VoiceConnection, Boolean>());
+
+	/** Traced connections by the name of their player. */
+	public Map<String, VoiceConnection> playerConnections = new ConcurrentHashMap<String, VoiceConnection>();
+
+	/** Connections that can hear each channel. */
+	public Map<Integer, Set<VoiceConnection>> listeners = new ConcurrentHashMap<Integer, Set<VoiceConnection>>();
+
+	public ServerSocketChannel serverSocket;
+
+	public Selector selector;
+
+	public volatile boolean running;
 
 	public boolean foundLocal = false;
 
 	public Thread listenThread;
 
+	/** Direct buffers for frames being relayed. Only used from the relay thread. */
+	private Deque<ByteBuffer> bufferPool = new ArrayDeque<ByteBuffer>();
+
 	public void start()
 	{
 		Mekanism.logger.info("VoiceServer: Starting up server...");
 
 		try {
+			selector = Selector.open();
+
+			serverSocket = ServerSocketChannel.open();
+			serverSocket.configureBlocking(false);
+			serverSocket.socket().bind(new InetSocketAddress(general.VOICE_PORT));
+			serverSocket.register(selector, SelectionKey.OP_ACCEPT);
+
 			running = true;
-			serverSocket = new ServerSocket(general.VOICE_PORT);
-			(listenThread = new ListenThread()).start();
-		} catch(Exception e) {}
+			(listenThread = new RelayThread()).start();
+		} catch(Exception e) {
+			Mekanism.logger.error("VoiceServer: Error while starting server.");
+			e.printStackTrace();
+		}
 	}
 
 	public void stop()
@@ -37,55 +77,230 @@ public class VoiceServerManager
 		try {
 			Mekanism.logger.info("VoiceServer: Shutting down server...");
 
+			running = false;
+
 			try {
-				listenThread.interrupt();
+				selector.wakeup();
+				listenThread.join(1000);
 			} catch(Exception e) {}
 
 			foundLocal = false;
-
-			try {
-				serverSocket.close();
-				serverSocket = null;
-			} catch(Exception e) {}
 		} catch(Exception e) {
 			Mekanism.logger.error("VoiceServer: Error while shutting down server.");
 			e.printStackTrace();
 		}
-
-		running = false;
 	}
 
-	public void sendToPlayers(short byteCount, byte[] audioData, VoiceConnection connection)
+	/**
+	 * Updates the channels a player is speaking and listening on. Called from the server thread, and from packet handlers
+	 * when a walkie-talkie changes.
+	 * @param player - player to update
+	 * @param checkInventory - whether to check the whole inventory for the channels they can hear, as well as the held item
+	 */
+	public synchronized void updatePlayer(EntityPlayer player, boolean checkInventory)
 	{
-		if(connection.getPlayer() == null)
+		VoiceConnection connection = playerConnections.get(player.getName());
+
+		if(connection == null)
+		{
+			return;
+		}
+
+		connection.speakingChannel = connection.getCurrentChannel(player);
+
+		if(!checkInventory)
+		{
+			return;
+		}
+
+		Set<Integer> channels = connection.getListenChannels(player);
+
+		if(channels.equals(connection.listening))
 		{
 			return;
 		}
 
-		int channel = connection.getCurrentChannel();
+		for(Integer channel : connection.listening)
+		{
+			if(!channels.contains(channel))
+			{
+				Set<VoiceConnection> set = listeners.get(channel);
+
+				if(set != null)
+				{
+					set.remove(connection);
+				}
+			}
+		}
+
+		for(Integer channel : channels)
+		{
+			Set<VoiceConnection> set = listeners.get(channel);
+
+			if(set == null)
+			{
+				set = Collections.newSetFromMap(new ConcurrentHashMap<VoiceConnection, Boolean>());
+				listeners.put(channel, set);
+			}
+
+			set.add(connection);
+		}
+
+		connection.listening = channels;
+
+		//The relay thread may have killed the connection meanwhile
+		if(!connection.open)
+		{
+			onKilled(connection);
+		}
+	}
+
+	/**
+	 * Relays a frame to the players that can hear the speaker's channel. Called from the relay thread.
+	 * @param byteCount - length of the audio data
+	 * @param data - buffer holding the frame, with its length, at its position; the position is left as it is
+	 * @param connection - the speaker's connection
+	 */
+	public void sendToPlayers(short byteCount, ByteBuffer data, VoiceConnection connection)
+	{
+		int channel = connection.speakingChannel;
 
 		if(channel == 0)
 		{
 			return;
 		}
 
-		for(VoiceConnection iterConn : connections)
+		Set<VoiceConnection> subscribers = listeners.get(channel);
+
+		if(subscribers == null || subscribers.isEmpty())
+		{
+			return;
+		}
+
+		ByteBuffer source = data.duplicate();
+		source.limit(source.position() + 2 + byteCount);
+
+		//The relay holds a reference of its own, so the buffer isn't pooled again while still being handed out
+		Frame frame = new Frame(acquire(2 + byteCount));
+		frame.buffer.put(source);
+		frame.buffer.flip();
+		frame.references = 1;
+
+		for(VoiceConnection iterConn : subscribers)
 		{
-			if(iterConn.getPlayer() == null || iterConn == connection || !iterConn.canListen(channel))
+			if(iterConn != connection && iterConn.open)
 			{
-				continue;
+				iterConn.sendToPlayer(frame);
 			}
+		}
 
-			iterConn.sendToPlayer(byteCount, audioData, connection);
+		release(frame);
+	}
+
+	/**
+	 * Drops a reference to a frame, pooling its buffer once nothing references it.
+	 * @param frame - frame that is no longer needed
+	 */
+	public void release(Frame frame)
+	{
+		if(--frame.references <= 0 && frame.buffer.capacity() == POOLED_FRAME_SIZE && bufferPool.size() < MAX_POOLED_FRAMES)
+		{
+			frame.buffer.clear();
+			bufferPool.push(frame.buffer);
+		}
+	}
+
+	private ByteBuffer acquire(int size)
+	{
+		if(size > POOLED_FRAME_SIZE)
+		{
+			return ByteBuffer.allocate(size);
+		}
+
+		ByteBuffer buffer = bufferPool.poll();
+
+		return buffer != null ? buffer : ByteBuffer.allocateDirect(POOLED_FRAME_SIZE);
+	}
+
+	public void onKilled(VoiceConnection connection)
+	{
+		connections.remove(connection);
+
+		if(connection.username != null)
+		{
+			playerConnections.remove(connection.username, connection);
+		}
+
+		for(Set<VoiceConnection> set : listeners.values())
+		{
+			set.remove(connection);
+		}
+	}
+
+	private void accept() throws IOException
+	{
+		SocketChannel channel = serverSocket.accept();
+
+		if(channel == null)
+		{
+			return;
+		}
+
+		channel.configureBlocking(false);
+		channel.socket().setTcpNoDelay(true);
+
+		VoiceConnection connection = new VoiceConnection(channel);
+		connection.key = channel.register(selector, SelectionKey.OP_READ, connection);
+		connections.add(connection);
+
+		Mekanism.logger.info("VoiceServer: Accepted new connection.");
+
+		connection.trace();
+	}
+
+	private void shutdown()
+	{
+		for(VoiceConnection connection : connections)
+		{
+			connection.kill();
+		}
+
+		connections.clear();
+		playerConnections.clear();
+		listeners.clear();
+		bufferPool.clear();
+
+		try {
+			serverSocket.close();
+			selector.close();
+		} catch(Exception e) {}
+
+		serverSocket = null;
+		selector = null;
+	}
+
+	/**
+	 * A frame being relayed, shared by every connection it is sent to.
+	 */
+	public static class Frame
+	{
+		public ByteBuffer buffer;
+
+		/** Connections still to send this frame, plus one while it is being relayed. */
+		public int references;
+
+		public Frame(ByteBuffer b)
+		{
+			buffer = b;
 		}
 	}
 
-	public class ListenThread extends Thread
+	public class RelayThread extends Thread
 	{
-		public ListenThread()
+		public RelayThread()
 		{
 			setDaemon(true);
-			setName("VoiceServer Listen Thread");
+			setName("VoiceServer Relay Thread");
 		}
 
 		@Override
@@ -94,19 +309,56 @@ public class VoiceServerManager
 			while(running)
 			{
 				try {
-					Socket s = serverSocket.accept();
-					VoiceConnection connection = new VoiceConnection(s);
-					connection.start();
-					connections.add(connection);
-
-					Mekanism.logger.info("VoiceServer: Accepted new connection.");
-				} catch(SocketException e) {
-				} catch(NullPointerException e) {
+					//Wakes up regularly so untraced connections are retried, as their players may not have joined yet
+					selector.select(50);
+
+					for(Iterator<SelectionKey> iter = selector.selectedKeys().iterator(); iter.hasNext();)
+					{
+						SelectionKey key = iter.next();
+						iter.remove();
+
+						if(!key.isValid())
+						{
+							continue;
+						}
+
+						if(key.isAcceptable())
+						{
+							accept();
+							continue;
+						}
+
+						VoiceConnection connection = (VoiceConnection)key.attachment();
+
+						try {
+							if(key.isReadable())
+							{
+								connection.read();
+							}
+
+							if(key.isValid() && key.isWritable())
+							{
+								connection.write();
+							}
+						} catch(IOException e) {
+							connection.kill();
+						}
+					}
+
+					for(VoiceConnection connection : connections)
+					{
+						if(connection.username == null)
+						{
+							connection.trace();
+						}
+					}
 				} catch(Exception e) {
-					Mekanism.logger.error("VoiceServer: Error while accepting connection.");
+					Mekanism.logger.error("VoiceServer: Error while relaying audio.");
 					e.printStackTrace();
 				}
 			}
+
+			shutdown();
 		}
 	}
 }
@@ -350,7 +350,7 @@ public class FusionReactor implements IFusionReactor
 		
 		if(!controller.getWorld().isRemote)
 		{
-			Mekanism.packetHandler.sendToDimension(new TileEntityMessage(Coord4D.get(controller), controller.getNetworkedData(new ArrayList())), controller.getWorld().provider.getDimension());
+			Mekanism.packetHandler.sendToDimension(new TileEntityMessage(Coord4D.get(controller), controller), controller.getWorld().provider.getDimension());
 		}
 	}
 
@@ -388,7 +388,7 @@ public class FusionReactor implements IFusionReactor
 		
 		if(!controller.getWorld().isRemote)
 		{
-			Mekanism.packetHandler.sendToDimension(new TileEntityMessage(Coord4D.get(controller), controller.getNetworkedData(new ArrayList())), controller.getWorld().provider.getDimension());
+			Mekanism.packetHandler.sendToDimension(new TileEntityMessage(Coord4D.get(controller), controller), controller.getWorld().provider.getDimension());
 		}
 	}
 
@@ -3,6 +3,7 @@ package mekanism.generators.common.block;
 import java.util.List;
 import java.util.Random;
 
+import mekanism.api.Coord4D;
 import mekanism.api.MekanismConfig.client;
 import mekanism.api.energy.IEnergizedItem;
 import mekanism.client.render.ctm.CTMBlockRenderContext;
@@ -192,7 +193,7 @@ public abstract class BlockGenerator extends BlockContainer implements ICTMBlock
 			
 			if(tileEntity instanceof IMultiblock)
 			{
-				((IMultiblock)tileEntity).doUpdate();
+				((IMultiblock)tileEntity).doUpdate(new Coord4D(pos, world));
 			}
 
 			if(tileEntity instanceof TileEntityBasicBlock)
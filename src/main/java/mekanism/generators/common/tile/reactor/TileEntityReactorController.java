@@ -117,7 +117,7 @@ public class TileEntityReactorController extends TileEntityReactorBlock implemen
 			
 			if(!worldObj.isRemote && (getReactor().isBurning() != clientBurning || Math.abs(getReactor().getPlasmaTemp() - clientTemp) > 1000000))
 			{
-				Mekanism.packetHandler.sendToAllAround(new TileEntityMessage(Coord4D.get(this), getNetworkedData(new ArrayList())), Coord4D.get(this).getTargetPoint(50D));
+				Mekanism.packetHandler.sendToAllAround(new TileEntityMessage(Coord4D.get(this), this), Coord4D.get(this).getTargetPoint(50D));
 				clientBurning = getReactor().isBurning();
 				clientTemp = getReactor().getPlasmaTemp();
 			}